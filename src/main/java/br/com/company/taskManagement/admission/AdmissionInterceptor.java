@@ -0,0 +1,154 @@
+package br.com.company.taskManagement.admission;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+public class AdmissionInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String REJECTED_METRIC = "admission.rejected";
+
+    private static final String PERMIT = AdmissionInterceptor.class.getName() + ".PERMIT";
+
+    private final MeterRegistry meterRegistry;
+    private final String clientHeader;
+    private final Set<String> trustedProxies;
+    private final long readCapacity;
+    private final double readRefillPerSecond;
+    private final long writeCapacity;
+    private final double writeRefillPerSecond;
+    private final long acquireTimeoutMs;
+    private final Semaphore permits;
+    private final Cache<String, TokenBucket> buckets;
+
+    public AdmissionInterceptor(MeterRegistry meterRegistry, String clientHeader, Set<String> trustedProxies, long readCapacity, double readRefillPerSecond,
+                                long writeCapacity, double writeRefillPerSecond, int maxConcurrent, long acquireTimeoutMs, long maxClients) {
+        this.meterRegistry = meterRegistry;
+        this.clientHeader = clientHeader;
+        this.trustedProxies = trustedProxies;
+        this.readCapacity = readCapacity;
+        this.readRefillPerSecond = readRefillPerSecond;
+        this.writeCapacity = writeCapacity;
+        this.writeRefillPerSecond = writeRefillPerSecond;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.permits = new Semaphore(maxConcurrent);
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+        Gauge.builder("admission.inflight", permits, semaphore -> maxConcurrent - semaphore.availablePermits())
+                .description("Requests holding an admission permit")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        if (request.getDispatcherType() == DispatcherType.ASYNC)
+            return true;
+
+        boolean write = isWrite(request);
+        String client = clientOf(request);
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get((write ? "W:" : "R:") + client, key -> write
+                ? new TokenBucket(writeCapacity, writeRefillPerSecond, now)
+                : new TokenBucket(readCapacity, readRefillPerSecond, now));
+        long waitNanos = bucket.tryConsume(now);
+        if (waitNanos > 0) {
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, write, "rate_limit", retryAfter(waitNanos),
+                    "Limite de requisições excedido! Tente novamente em instantes.");
+            log.debug("Cliente {} excedeu o limite de {} em {}", client, write ? "escrita" : "leitura", request.getRequestURI());
+            return false;
+        }
+
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, write, "concurrency", 1,
+                    "Servidor sobrecarregado! Tente novamente em instantes.");
+            return false;
+        }
+        request.setAttribute(PERMIT, Boolean.TRUE);
+        return true;
+    }
+
+    /**
+     * Exportações e endpoints reativos devolvem o thread ao container e continuam em outro
+     * executor: a permissão é liberada aqui para não limitar o servidor pelo tempo do stream.
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        release(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        release(request);
+    }
+
+    private void release(HttpServletRequest request) {
+        if (request.getAttribute(PERMIT) != null) {
+            request.removeAttribute(PERMIT);
+            permits.release();
+        }
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    private boolean isWrite(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method) && !HttpMethod.OPTIONS.matches(method);
+    }
+
+    private String clientOf(HttpServletRequest request) {
+        String address = request.getRemoteAddr();
+        if (!trustedProxies.contains(address))
+            return address;
+        String client = request.getHeader(clientHeader);
+        return client != null && !client.isBlank() ? client : address;
+    }
+
+    private static long retryAfter(long waitNanos) {
+        return Math.max(1, (long) Math.ceil(waitNanos / (double) TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, boolean write, String reason, long retryAfter, String message) throws IOException {
+        Counter.builder(REJECTED_METRIC)
+                .description("Requests rejected by the admission control before reaching the controllers")
+                .tag("reason", reason)
+                .tag("route", write ? "write" : "read")
+                .register(meterRegistry)
+                .increment();
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(message);
+    }
+
+}
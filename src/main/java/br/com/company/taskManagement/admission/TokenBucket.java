@@ -0,0 +1,33 @@
+package br.com.company.taskManagement.admission;
+
+import java.util.concurrent.TimeUnit;
+
+public class TokenBucket {
+
+    private final double capacity;
+    private final double refillPerNano;
+    private double tokens;
+    private long lastRefill;
+
+    public TokenBucket(long capacity, double refillPerSecond, long nowNanos) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.tokens = capacity;
+        this.lastRefill = nowNanos;
+    }
+
+    public synchronized long tryConsume(long nowNanos) {
+        if (nowNanos > lastRefill) {
+            tokens = Math.min(capacity, tokens + (nowNanos - lastRefill) * refillPerNano);
+            lastRefill = nowNanos;
+        }
+        if (tokens >= 1) {
+            tokens--;
+            return 0;
+        }
+        if (refillPerNano <= 0)
+            return Long.MAX_VALUE;
+        return (long) Math.ceil((1 - tokens) / refillPerNano);
+    }
+
+}
@@ -0,0 +1,62 @@
+package br.com.company.taskManagement.config;
+
+import br.com.company.taskManagement.admission.AdmissionInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.Set;
+
+@Configuration
+@ConditionalOnProperty(prefix = "admission", name = "enabled", havingValue = "true")
+public class AdmissionConfig implements WebMvcConfigurer {
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Value("${admission.client-header:X-Client-Id}")
+    String clientHeader;
+
+    @Value("${admission.trusted-proxies:}")
+    Set<String> trustedProxies;
+
+    @Value("${admission.read.capacity:200}")
+    long readCapacity;
+
+    @Value("${admission.read.refill-per-second:100}")
+    double readRefillPerSecond;
+
+    @Value("${admission.write.capacity:50}")
+    long writeCapacity;
+
+    @Value("${admission.write.refill-per-second:20}")
+    double writeRefillPerSecond;
+
+    @Value("${admission.max-concurrent:16}")
+    int maxConcurrent;
+
+    @Value("${admission.acquire-timeout-ms:100}")
+    long acquireTimeoutMs;
+
+    @Value("${admission.max-clients:100000}")
+    long maxClients;
+
+    @Bean
+    public AdmissionInterceptor admissionInterceptor() {
+        return new AdmissionInterceptor(meterRegistry, clientHeader, trustedProxies, readCapacity, readRefillPerSecond, writeCapacity,
+                writeRefillPerSecond, maxConcurrent, acquireTimeoutMs, maxClients);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(admissionInterceptor())
+                .addPathPatterns("/items/**", "/lists/**", "/reactive/**", "/export/**")
+                .order(0);
+    }
+
+}
@@ -0,0 +1,33 @@
+package br.com.company.taskManagement.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String LISTS = "lists";
+    public static final String ITEMS = "items";
+
+    /**
+     * Evicts e puts feitos dentro de uma transação só chegam ao cache depois do commit, para que
+     * uma leitura concorrente não deixe em cache a linha como estava antes do commit.
+     */
+    @Bean
+    static BeanPostProcessor transactionAwareCacheManager() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof CacheManager cacheManager && !(bean instanceof TransactionAwareCacheManagerProxy)
+                        ? new TransactionAwareCacheManagerProxy(cacheManager)
+                        : bean;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,23 @@
+package br.com.company.taskManagement.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+public class ReactiveConfig {
+
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    int poolSize;
+
+    @Value("${reactive.jdbc.queue-size:10000}")
+    int queueSize;
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler jdbcScheduler() {
+        return Schedulers.newBoundedElastic(poolSize, queueSize, "jdbc");
+    }
+
+}
@@ -0,0 +1,25 @@
+package br.com.company.taskManagement.config;
+
+import br.com.company.taskManagement.jdbc.StatementBudgetInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@ConditionalOnProperty(prefix = "statements", name = {"count.enabled", "budget.enabled"}, havingValue = "true")
+public class StatementBudgetConfig implements WebMvcConfigurer {
+
+    @Value("${statements.budget.max-statements:20}")
+    int maxStatements;
+
+    @Value("${statements.budget.max-repeated-selects:5}")
+    int maxRepeatedSelects;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new StatementBudgetInterceptor(maxStatements, maxRepeatedSelects));
+    }
+
+}
@@ -0,0 +1,28 @@
+package br.com.company.taskManagement.config;
+
+import br.com.company.taskManagement.jdbc.StatementCounter;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(name = "statements.count.enabled", havingValue = "true")
+public class StatementCountConfig {
+
+    @Bean
+    static BeanPostProcessor statementCountDataSource() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource
+                        ? ProxyDataSourceBuilder.create(dataSource).name(beanName).listener(new StatementCounter()).build()
+                        : bean;
+            }
+        };
+    }
+
+}
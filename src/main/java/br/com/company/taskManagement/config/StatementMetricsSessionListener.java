@@ -0,0 +1,43 @@
+package br.com.company.taskManagement.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.servlet.http.HttpServletRequest;
+import org.hibernate.SessionEventListener;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+public class StatementMetricsSessionListener implements SessionEventListener {
+
+    public static final String METRIC = "hibernate.request.statements";
+
+    private int statements;
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        statements++;
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        statements++;
+    }
+
+    @Override
+    public void end() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes))
+            return;
+        HttpServletRequest request = attributes.getRequest();
+        Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder(METRIC)
+                .description("JDBC statements and batches executed by the Hibernate session of a request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri != null ? uri.toString() : "UNKNOWN")
+                .publishPercentileHistogram()
+                .maximumExpectedValue(1000.0)
+                .register(Metrics.globalRegistry)
+                .record(statements);
+    }
+
+}
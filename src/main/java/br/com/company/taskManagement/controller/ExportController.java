@@ -0,0 +1,40 @@
+package br.com.company.taskManagement.controller;
+
+import br.com.company.taskManagement.enums.ExportFormat;
+import br.com.company.taskManagement.service.ExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/export")
+public class ExportController {
+
+    @Autowired
+    ExportService exportService;
+
+    @GetMapping("/items")
+    public ResponseEntity<StreamingResponseBody> exportItems(@RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        return buildResponse("items", format, outputStream -> exportService.exportItems(format, outputStream));
+    }
+
+    @GetMapping("/lists")
+    public ResponseEntity<StreamingResponseBody> exportLists(@RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        return buildResponse("lists", format, outputStream -> exportService.exportLists(format, outputStream));
+    }
+
+    private ResponseEntity<StreamingResponseBody> buildResponse(String name, ExportFormat format, StreamingResponseBody body) {
+        MediaType mediaType = format == ExportFormat.CSV ? new MediaType("text", "csv") : MediaType.APPLICATION_NDJSON;
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + name + "." + format.name().toLowerCase())
+                .body(body);
+    }
+
+}
@@ -0,0 +1,21 @@
+package br.com.company.taskManagement.controller;
+
+import br.com.company.taskManagement.exception.ExceptionMessage;
+
+class IfMatch {
+
+    static Long version(String header) throws ExceptionMessage {
+        if (header == null || header.isBlank() || header.trim().equals("*"))
+            return null;
+        String value = header.trim();
+        if (value.startsWith("W/"))
+            value = value.substring(2);
+        value = value.replace("\"", "");
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException ex) {
+            throw new ExceptionMessage("Cabeçalho If-Match inválido!");
+        }
+    }
+
+}
@@ -1,19 +1,36 @@
 package br.com.company.taskManagement.controller;
 
+import br.com.company.taskManagement.dto.BulkDeleteDto;
+import br.com.company.taskManagement.dto.IngestionStatusDto;
 import br.com.company.taskManagement.dto.ItemsDto;
+import br.com.company.taskManagement.dto.PageDto;
 import br.com.company.taskManagement.entity.Items;
 import br.com.company.taskManagement.enums.Priority;
 import br.com.company.taskManagement.exception.ExceptionMessage;
+import br.com.company.taskManagement.exception.QueueFullException;
+import br.com.company.taskManagement.exception.VersionConflictException;
+import br.com.company.taskManagement.pagination.Offset;
+import br.com.company.taskManagement.repository.projection.Fields;
+import br.com.company.taskManagement.repository.specification.FiltersSpecification;
+import br.com.company.taskManagement.service.ConcurrencyRetry;
+import br.com.company.taskManagement.service.ImportService;
+import br.com.company.taskManagement.service.ItemsIngestionService;
 import br.com.company.taskManagement.service.ItemsService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.InputStream;
+import java.net.URI;
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/items")
@@ -22,37 +39,96 @@ public class ItemsController {
     @Autowired
     ItemsService itemsService;
 
+    @Autowired
+    ImportService importService;
+
+    @Autowired
+    ConcurrencyRetry concurrencyRetry;
+
+    @Autowired
+    ItemsIngestionService itemsIngestionService;
+
     @GetMapping("/{id}")
-    public ResponseEntity<Items> findById(@PathVariable Long id) throws ExceptionMessage {
-        return ResponseEntity.ok(itemsService.findById(id));
+    public ResponseEntity<Items> findById(@PathVariable Long id, WebRequest webRequest) throws ExceptionMessage {
+        Optional<Long> version = itemsService.findVersionById(id);
+        if (version.isPresent() && webRequest.checkNotModified(String.valueOf(version.get())))
+            return null;
+        Items items = itemsService.findById(id);
+        return ResponseEntity.ok().eTag(String.valueOf(items.getVersion())).body(items);
     }
 
     @GetMapping("/all")
-    public ResponseEntity<Page<Items>> findAll(@PageableDefault(size = 10)Pageable pageable) {
-        return ResponseEntity.ok(itemsService.findAll(pageable));
+    public ResponseEntity<?> findAll(@RequestParam(required = false) String after, @RequestParam(required = false) String fields,
+                                     @PageableDefault(size = 10) Pageable pageable) {
+        if (after == null && fields == null)
+            return ResponseEntity.ok(Offset.toPage(itemsService.findAll(pageable)));
+        try {
+            if (fields != null)
+                return ResponseEntity.ok(Offset.toPage(itemsService.findFields(Fields.parse(fields, after), pageable)));
+            return ResponseEntity.ok(itemsService.findAll(after, pageable));
+        } catch (ExceptionMessage ex) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+        }
     }
 
     @GetMapping("/listItems/{id}")
-    public ResponseEntity<Page<Items>> findAllByLists(
+    public ResponseEntity<PageDto<Items>> findAllByLists(
             @PathVariable Long id,
             @PageableDefault(size = 10) Pageable pageable) throws ExceptionMessage {
 
         Page<Items> itemsPage = itemsService.findAllByLists(id, pageable);
-        return ResponseEntity.ok(itemsPage);
+        return ResponseEntity.ok(Offset.toPage(itemsPage));
     }
 
     @GetMapping("/filters")
-    public ResponseEntity<Page<Items>> findByFilters(@RequestParam(required = false) Priority priority,
-                                                     @RequestParam(required = false) LocalDateTime creationDate,
-                                                     @RequestParam(required = false)LocalDateTime finishDate,
-                                                     @RequestParam(required = false) String title, @PageableDefault(size = 10) Pageable pageable) {
-        return ResponseEntity.ok(itemsService.findByFilters(priority, creationDate, finishDate, title, pageable));
+    public ResponseEntity<?> findByFilters(@RequestParam(required = false) Priority priority,
+                                           @RequestParam(required = false) LocalDateTime creationDate,
+                                           @RequestParam(required = false) LocalDateTime finishDate,
+                                           @RequestParam(required = false) String title,
+                                           @RequestParam(required = false) String after, @RequestParam(required = false) String fields,
+                                           @PageableDefault(size = 10) Pageable pageable) {
+        if (after == null && fields == null)
+            return ResponseEntity.ok(Offset.toPage(itemsService.findByFilters(priority, creationDate, finishDate, title, pageable)));
+        try {
+            if (fields != null)
+                return ResponseEntity.ok(Offset.toPage(itemsService.findFieldsByFilters(priority, creationDate, finishDate, title, Fields.parse(fields, after), pageable)));
+            return ResponseEntity.ok(itemsService.findByFilters(priority, creationDate, finishDate, title, after, pageable));
+        } catch (ExceptionMessage ex) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+        }
     }
 
     @PostMapping("createItems/{id}")
-    public ResponseEntity<?> createLists(@PathVariable Long id, @RequestBody ItemsDto itemsDto) {
+    public ResponseEntity<?> createLists(@PathVariable Long id, @RequestBody ItemsDto itemsDto,
+                                         @RequestParam(required = false) Boolean async) {
+        try {
+            if (async != null ? async : itemsIngestionService.isAsyncDefault()) {
+                IngestionStatusDto status = itemsIngestionService.enqueue(id, itemsDto);
+                return ResponseEntity.accepted().location(URI.create("/items/ingestion/" + status.getTrackingId())).body(status);
+            }
+            return ResponseEntity.status(HttpStatus.CREATED).body(concurrencyRetry.execute(() -> itemsService.createItems(id, itemsDto)));
+        } catch (QueueFullException ex) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(ex.getMessage());
+        } catch (ExceptionMessage ex) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+        } catch (Exception ex) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ex.getMessage());
+        }
+    }
+
+    @GetMapping("/ingestion/{trackingId}")
+    public ResponseEntity<?> findIngestionStatus(@PathVariable String trackingId) {
+        try {
+            return ResponseEntity.ok(itemsIngestionService.findStatus(trackingId));
+        } catch (ExceptionMessage ex) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+        }
+    }
+
+    @PostMapping("import/{id}")
+    public ResponseEntity<?> importItems(@PathVariable Long id, InputStream inputStream) {
         try {
-            return ResponseEntity.status(HttpStatus.CREATED).body(itemsService.createItems(id, itemsDto));
+            return ResponseEntity.ok(importService.importItems(id, inputStream));
         } catch (ExceptionMessage ex) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
         } catch (Exception ex) {
@@ -61,9 +137,14 @@ public class ItemsController {
     }
 
     @PutMapping("/putItems/{id}")
-    public ResponseEntity<?> putLists(@PathVariable Long id, @RequestBody ItemsDto itemsDto) throws ExceptionMessage {
+    public ResponseEntity<?> putLists(@PathVariable Long id, @RequestBody ItemsDto itemsDto,
+                                      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) throws ExceptionMessage {
         try {
-            return ResponseEntity.ok(itemsService.putItems(id, itemsDto));
+            return ResponseEntity.ok(itemsService.putItems(id, itemsDto, IfMatch.version(ifMatch)));
+        } catch (VersionConflictException ex) {
+            return conflict(ex);
+        } catch (ObjectOptimisticLockingFailureException ex) {
+            return conflict(new VersionConflictException(itemsService.findVersionById(id).orElse(null)));
         } catch (ExceptionMessage ex) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
         } catch (Exception ex) {
@@ -93,4 +174,30 @@ public class ItemsController {
         }
     }
 
+    @DeleteMapping("/deleteAll")
+    public ResponseEntity<?> deleteAll(@RequestBody(required = false) BulkDeleteDto bulkDeleteDto,
+                                       @RequestParam(required = false) Priority priority,
+                                       @RequestParam(required = false) LocalDateTime creationDate,
+                                       @RequestParam(required = false) LocalDateTime finishDate,
+                                       @RequestParam(required = false) String title) {
+        try {
+            if (bulkDeleteDto == null || bulkDeleteDto.getIds() == null)
+                return ResponseEntity.ok(itemsService.deleteByFilters(priority, creationDate, finishDate, title));
+            if (FiltersSpecification.hasAny(priority, creationDate, finishDate, title))
+                throw new ExceptionMessage("Informe os ids ou os filtros para a exclusão em massa, não ambos!");
+            return ResponseEntity.ok(itemsService.deleteAll(bulkDeleteDto.getIds()));
+        } catch (ExceptionMessage ex) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+        } catch (Exception ex) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ex.getMessage());
+        }
+    }
+
+    private ResponseEntity<?> conflict(VersionConflictException ex) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.CONFLICT);
+        if (ex.getCurrentVersion() != null)
+            response.eTag(String.valueOf(ex.getCurrentVersion()));
+        return response.body(ex.getMessage());
+    }
+
 }
@@ -1,19 +1,28 @@
 package br.com.company.taskManagement.controller;
 
+import br.com.company.taskManagement.dto.BulkDeleteDto;
 import br.com.company.taskManagement.dto.ListsDto;
 import br.com.company.taskManagement.entity.Lists;
 import br.com.company.taskManagement.enums.Priority;
 import br.com.company.taskManagement.exception.ExceptionMessage;
+import br.com.company.taskManagement.exception.VersionConflictException;
+import br.com.company.taskManagement.pagination.Offset;
+import br.com.company.taskManagement.repository.projection.Fields;
+import br.com.company.taskManagement.repository.specification.FiltersSpecification;
 import br.com.company.taskManagement.service.ListsService;
+import br.com.company.taskManagement.service.PriorityCountService;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/lists")
@@ -22,22 +31,54 @@ public class ListsController {
     @Autowired
     ListsService listsService;
 
+    @Autowired
+    PriorityCountService priorityCountService;
+
     @GetMapping("/{id}")
-    public ResponseEntity<Lists> findById(@PathVariable Long id) throws ExceptionMessage {
-        return ResponseEntity.ok(listsService.findById(id));
+    public ResponseEntity<Lists> findById(@PathVariable Long id, WebRequest webRequest) throws ExceptionMessage {
+        Optional<Long> version = listsService.findVersionById(id);
+        if (version.isPresent() && webRequest.checkNotModified(String.valueOf(version.get())))
+            return null;
+        Lists lists = listsService.findById(id);
+        return ResponseEntity.ok().eTag(String.valueOf(lists.getVersion())).body(lists);
+    }
+
+    @GetMapping("/{id}/counts")
+    public ResponseEntity<?> countByPriority(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(priorityCountService.findByListId(id));
+        } catch (ExceptionMessage ex) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+        }
     }
 
     @GetMapping("/all")
-    public ResponseEntity<Page<Lists>> findAll(@PageableDefault(size = 10) Pageable pageable) {
-        return ResponseEntity.ok(listsService.findAll(pageable));
+    public ResponseEntity<?> findAll(@RequestParam(required = false) String after, @RequestParam(required = false) String fields,
+                                     @PageableDefault(size = 10) Pageable pageable) {
+        if (after == null && fields == null)
+            return ResponseEntity.ok(Offset.toPage(listsService.findAll(pageable)));
+        try {
+            if (fields != null)
+                return ResponseEntity.ok(Offset.toPage(listsService.findFields(Fields.parse(fields, after), pageable)));
+            return ResponseEntity.ok(listsService.findAll(after, pageable));
+        } catch (ExceptionMessage ex) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+        }
     }
 
     @GetMapping("/filters")
-    public ResponseEntity<Page<Lists>> findByFilters(@RequestParam(required = false) Priority priority,
-                                                     @RequestParam(required = false)LocalDateTime creationDate,
-                                                     @RequestParam(required = false)LocalDateTime finishDate,
-                                                     @RequestParam(required = false) String title, @PageableDefault(size = 10) Pageable pageable) {
-        return ResponseEntity.ok(listsService.findByFilters(priority, creationDate, finishDate, title, pageable));
+    public ResponseEntity<?> findByFilters(@RequestParam(required = false) Priority priority,
+                                           @RequestParam(required = false) LocalDateTime creationDate,
+                                           @RequestParam(required = false) LocalDateTime finishDate,
+                                           @RequestParam(required = false) String title,
+                                           @RequestParam(required = false) String after, @PageableDefault(size = 10) Pageable pageable) {
+        if (after == null)
+            return ResponseEntity.ok(Offset.toPage(listsService.findByFilters(priority, creationDate, finishDate, title, pageable)));
+        try {
+            return ResponseEntity.ok(listsService.findByFilters(priority, creationDate, finishDate, title, after, pageable));
+        } catch (ExceptionMessage ex) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+        }
     }
 
     @PostMapping("createLists")
@@ -52,9 +93,14 @@ public class ListsController {
     }
 
     @PutMapping("/putLists/{id}")
-    public ResponseEntity<?> putLists(@PathVariable Long id, @RequestBody ListsDto listsDto) throws ExceptionMessage {
+    public ResponseEntity<?> putLists(@PathVariable Long id, @RequestBody ListsDto listsDto,
+                                      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) throws ExceptionMessage {
         try {
-            return ResponseEntity.ok(listsService.putLists(id, listsDto));
+            return ResponseEntity.ok(listsService.putLists(id, listsDto, IfMatch.version(ifMatch)));
+        } catch (VersionConflictException ex) {
+            return conflict(ex);
+        } catch (ObjectOptimisticLockingFailureException ex) {
+            return conflict(new VersionConflictException(listsService.findVersionById(id).orElse(null)));
         } catch (ExceptionMessage ex) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
         } catch (Exception ex) {
@@ -84,4 +130,30 @@ public class ListsController {
         }
     }
 
+    @DeleteMapping("/deleteAll")
+    public ResponseEntity<?> deleteAll(@RequestBody(required = false) BulkDeleteDto bulkDeleteDto,
+                                       @RequestParam(required = false) Priority priority,
+                                       @RequestParam(required = false) LocalDateTime creationDate,
+                                       @RequestParam(required = false) LocalDateTime finishDate,
+                                       @RequestParam(required = false) String title) {
+        try {
+            if (bulkDeleteDto == null || bulkDeleteDto.getIds() == null)
+                return ResponseEntity.ok(listsService.deleteByFilters(priority, creationDate, finishDate, title));
+            if (FiltersSpecification.hasAny(priority, creationDate, finishDate, title))
+                throw new ExceptionMessage("Informe os ids ou os filtros para a exclusão em massa, não ambos!");
+            return ResponseEntity.ok(listsService.deleteAll(bulkDeleteDto.getIds()));
+        } catch (ExceptionMessage ex) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+        } catch (Exception ex) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ex.getMessage());
+        }
+    }
+
+    private ResponseEntity<?> conflict(VersionConflictException ex) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.CONFLICT);
+        if (ex.getCurrentVersion() != null)
+            response.eTag(String.valueOf(ex.getCurrentVersion()));
+        return response.body(ex.getMessage());
+    }
+
 }
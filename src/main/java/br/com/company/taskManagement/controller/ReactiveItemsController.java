@@ -0,0 +1,56 @@
+package br.com.company.taskManagement.controller;
+
+import br.com.company.taskManagement.enums.Priority;
+import br.com.company.taskManagement.exception.ExceptionMessage;
+import br.com.company.taskManagement.pagination.Offset;
+import br.com.company.taskManagement.service.ReactiveItemsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.RejectedExecutionException;
+
+@RestController
+@RequestMapping("/reactive/items")
+public class ReactiveItemsController {
+
+    @Autowired
+    ReactiveItemsService reactiveItemsService;
+
+    @GetMapping("/all")
+    public Mono<ResponseEntity<?>> findAll(@RequestParam(required = false) String after, @PageableDefault(size = 10) Pageable pageable) {
+        Mono<?> page = after == null ? reactiveItemsService.findAll(pageable).map(Offset::toPage) : reactiveItemsService.findAll(after, pageable);
+        return ok(page);
+    }
+
+    @GetMapping("/listItems/{id}")
+    public Mono<ResponseEntity<?>> findAllByLists(@PathVariable Long id, @PageableDefault(size = 10) Pageable pageable) {
+        return ok(reactiveItemsService.findAllByLists(id, pageable).map(Offset::toPage));
+    }
+
+    @GetMapping("/filters")
+    public Mono<ResponseEntity<?>> findByFilters(@RequestParam(required = false) Priority priority,
+                                                 @RequestParam(required = false) LocalDateTime creationDate,
+                                                 @RequestParam(required = false) LocalDateTime finishDate,
+                                                 @RequestParam(required = false) String title,
+                                                 @RequestParam(required = false) String after, @PageableDefault(size = 10) Pageable pageable) {
+        Mono<?> page = after == null
+                ? reactiveItemsService.findByFilters(priority, creationDate, finishDate, title, pageable).map(Offset::toPage)
+                : reactiveItemsService.findByFilters(priority, creationDate, finishDate, title, after, pageable);
+        return ok(page);
+    }
+
+    private Mono<ResponseEntity<?>> ok(Mono<?> body) {
+        return body.<ResponseEntity<?>>map(ResponseEntity::ok)
+                .onErrorResume(ExceptionMessage.class, ex -> Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage())))
+                .onErrorResume(RejectedExecutionException.class, ex -> Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "1").body("Servidor ocupado! Tente novamente em instantes.")));
+    }
+
+}
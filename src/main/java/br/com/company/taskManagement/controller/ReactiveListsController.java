@@ -0,0 +1,42 @@
+package br.com.company.taskManagement.controller;
+
+import br.com.company.taskManagement.exception.ExceptionMessage;
+import br.com.company.taskManagement.pagination.Offset;
+import br.com.company.taskManagement.service.ReactiveListsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.RejectedExecutionException;
+
+@RestController
+@RequestMapping("/reactive/lists")
+public class ReactiveListsController {
+
+    @Autowired
+    ReactiveListsService reactiveListsService;
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<?>> findById(@PathVariable Long id) {
+        return ok(reactiveListsService.findById(id));
+    }
+
+    @GetMapping("/all")
+    public Mono<ResponseEntity<?>> findAll(@RequestParam(required = false) String after, @PageableDefault(size = 10) Pageable pageable) {
+        Mono<?> page = after == null ? reactiveListsService.findAll(pageable).map(Offset::toPage) : reactiveListsService.findAll(after, pageable);
+        return ok(page);
+    }
+
+    private Mono<ResponseEntity<?>> ok(Mono<?> body) {
+        return body.<ResponseEntity<?>>map(ResponseEntity::ok)
+                .onErrorResume(ExceptionMessage.class, ex -> Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage())))
+                .onErrorResume(RejectedExecutionException.class, ex -> Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "1").body("Servidor ocupado! Tente novamente em instantes.")));
+    }
+
+}
@@ -0,0 +1,16 @@
+package br.com.company.taskManagement.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkDeleteDto {
+
+    private List<Long> ids;
+
+}
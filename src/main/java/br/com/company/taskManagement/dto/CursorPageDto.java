@@ -0,0 +1,18 @@
+package br.com.company.taskManagement.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageDto<T> {
+
+    private List<T> content;
+    private int size;
+    private String next;
+
+}
@@ -0,0 +1,17 @@
+package br.com.company.taskManagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DeleteReportDto {
+
+    private long deleted;
+    private Long itemsDeleted;
+
+}
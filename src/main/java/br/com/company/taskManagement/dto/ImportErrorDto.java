@@ -0,0 +1,15 @@
+package br.com.company.taskManagement.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportErrorDto {
+
+    private long line;
+    private String message;
+
+}
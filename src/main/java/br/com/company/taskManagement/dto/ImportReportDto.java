@@ -0,0 +1,20 @@
+package br.com.company.taskManagement.dto;
+
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportReportDto {
+
+    private long imported;
+    private long failed;
+    @Builder.Default
+    private List<ImportErrorDto> errors = new ArrayList<>();
+
+}
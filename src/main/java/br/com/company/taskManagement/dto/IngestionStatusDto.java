@@ -0,0 +1,19 @@
+package br.com.company.taskManagement.dto;
+
+import br.com.company.taskManagement.enums.IngestionStatus;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IngestionStatusDto {
+
+    private String trackingId;
+    private Long listId;
+    private IngestionStatus status;
+    private Long itemsId;
+    private String message;
+
+}
@@ -13,6 +13,7 @@ import java.time.LocalDateTime;
 @Builder
 public class ItemsDto {
 
+    private Long id;
     private String title;
     private String description;
     private LocalDateTime creationDate;
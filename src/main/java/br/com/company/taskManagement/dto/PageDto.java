@@ -0,0 +1,23 @@
+package br.com.company.taskManagement.dto;
+
+import br.com.company.taskManagement.serializer.PageDtoSerializer;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonSerialize(using = PageDtoSerializer.class)
+public class PageDto<T> {
+
+    private List<T> content;
+    private Integer next;
+    private Long total;
+
+}
@@ -1,12 +1,18 @@
 package br.com.company.taskManagement.entity;
 
 import br.com.company.taskManagement.enums.Priority;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_items_priority_creation_date", columnList = "priority, creation_date"),
+        @Index(name = "idx_items_finish_date", columnList = "finish_date")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -15,7 +21,8 @@ import java.time.LocalDateTime;
 public class Items {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "items_seq")
+    @SequenceGenerator(name = "items_seq", allocationSize = 500)
     private Long id;
     private String title;
     private String description;
@@ -23,5 +30,12 @@ public class Items {
     private LocalDateTime finishDate;
     @Enumerated(EnumType.STRING)
     private Priority priority = Priority.NORMAL;
+    @Version
+    @ColumnDefault("0")
+    private Long version;
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "list_id")
+    private Lists lists;
 
 }
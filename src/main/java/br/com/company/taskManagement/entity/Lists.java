@@ -3,12 +3,18 @@ package br.com.company.taskManagement.entity;
 import br.com.company.taskManagement.enums.Priority;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_lists_priority_creation_date", columnList = "priority, creation_date"),
+        @Index(name = "idx_lists_finish_date", columnList = "finish_date")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,16 +23,20 @@ import java.util.List;
 public class Lists {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "lists_seq")
+    @SequenceGenerator(name = "lists_seq", allocationSize = 50)
     private Long id;
     private String title;
     private String description;
-    @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
-    @JoinColumn(name = "list_id")
+    @OneToMany(mappedBy = "lists", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
     private List<Items> items;
     private LocalDateTime creationDate;
     private LocalDateTime finishDate;
     @Enumerated(EnumType.STRING)
     private Priority priority = Priority.NORMAL;
+    @Version
+    @ColumnDefault("0")
+    private Long version;
 
 }
@@ -0,0 +1,21 @@
+package br.com.company.taskManagement.entity;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.*;
+
+@Entity
+@Table(name = "lists_priority_count")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PriorityCount {
+
+    @EmbeddedId
+    private PriorityCountId id;
+    private Long total;
+
+}
@@ -0,0 +1,25 @@
+package br.com.company.taskManagement.entity;
+
+import br.com.company.taskManagement.enums.Priority;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.*;
+
+import java.io.Serializable;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class PriorityCountId implements Serializable {
+
+    @Column(name = "list_id")
+    private Long listId;
+    @Enumerated(EnumType.STRING)
+    private Priority priority;
+
+}
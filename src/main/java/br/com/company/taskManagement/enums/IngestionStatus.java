@@ -0,0 +1,5 @@
+package br.com.company.taskManagement.enums;
+
+public enum IngestionStatus {
+    PENDENTE, CONCLUIDO, FALHOU;
+}
@@ -0,0 +1,9 @@
+package br.com.company.taskManagement.exception;
+
+public class QueueFullException extends ExceptionMessage {
+
+    public QueueFullException() {
+        super("Fila de ingestão cheia! Tente novamente em instantes.");
+    }
+
+}
@@ -0,0 +1,15 @@
+package br.com.company.taskManagement.exception;
+
+import lombok.Getter;
+
+@Getter
+public class VersionConflictException extends ExceptionMessage {
+
+    private final Long currentVersion;
+
+    public VersionConflictException(Long currentVersion) {
+        super("Conflito de versão! A versão atual é " + currentVersion);
+        this.currentVersion = currentVersion;
+    }
+
+}
@@ -0,0 +1,56 @@
+package br.com.company.taskManagement.jdbc;
+
+import br.com.company.taskManagement.entity.Items;
+import br.com.company.taskManagement.entity.Lists;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.SequenceGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * No MySQL os geradores {@code items_seq}/{@code lists_seq} são tabelas criadas pelo
+ * {@code ddl-auto=update} com {@code next_val=1}. Numa base que já tinha ids gerados por
+ * IDENTITY o primeiro insert colidiria, então antes de qualquer insert as tabelas são
+ * avançadas para depois do maior id existente.
+ */
+@Slf4j
+@Component
+public class SequenceInitializer {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    void init() throws MetaDataAccessException {
+        String database = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(), "getDatabaseProductName");
+        if (!"MySQL".equalsIgnoreCase(database))
+            return;
+        seed("items", Items.class);
+        seed("lists", Lists.class);
+    }
+
+    void seed(String table, Class<?> entity) {
+        SequenceGenerator generator;
+        try {
+            generator = entity.getDeclaredField("id").getAnnotation(SequenceGenerator.class);
+        } catch (NoSuchFieldException ex) {
+            throw new IllegalStateException(ex);
+        }
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        if (maxId == null)
+            return;
+        long nextVal = maxId + generator.allocationSize() + 1;
+        int updated = jdbcTemplate.update("UPDATE " + generator.name() + " SET next_val = ? WHERE next_val < ?", nextVal, nextVal);
+        if (updated > 0)
+            log.info("Sequência {} avançada para {} (maior id em {}: {})", generator.name(), nextVal, table, maxId);
+    }
+
+}
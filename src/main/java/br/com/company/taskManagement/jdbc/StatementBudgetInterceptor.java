@@ -0,0 +1,38 @@
+package br.com.company.taskManagement.jdbc;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+@Slf4j
+public class StatementBudgetInterceptor implements HandlerInterceptor {
+
+    private final int maxStatements;
+    private final int maxRepeatedSelects;
+
+    public StatementBudgetInterceptor(int maxStatements, int maxRepeatedSelects) {
+        this.maxStatements = maxStatements;
+        this.maxRepeatedSelects = maxRepeatedSelects;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        StatementCounter.reset();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        StatementCount count = StatementCounter.current();
+        StatementCounter.clear();
+        Object endpoint = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = request.getMethod() + " " + (endpoint != null ? endpoint : request.getRequestURI());
+        if (count.getTotal() > maxStatements)
+            log.warn("{} executou {} statements, acima do limite de {} ({})", route, count.getTotal(), maxStatements, count);
+        if (count.getMaxRepeatedSelects() > maxRepeatedSelects)
+            log.warn("{} repetiu {} vezes o mesmo select, possível N+1: {}", route, count.getMaxRepeatedSelects(), count.getMostRepeatedSelect());
+    }
+
+}
@@ -0,0 +1,48 @@
+package br.com.company.taskManagement.jdbc;
+
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+public class StatementCount {
+
+    private long select;
+    private long insert;
+    private long update;
+    private long delete;
+    private long other;
+    private final Map<String, Integer> selects = new HashMap<>();
+
+    void add(StatementType type, String query) {
+        switch (type) {
+            case SELECT -> {
+                select++;
+                selects.merge(query, 1, Integer::sum);
+            }
+            case INSERT -> insert++;
+            case UPDATE -> update++;
+            case DELETE -> delete++;
+            default -> other++;
+        }
+    }
+
+    public long getTotal() {
+        return select + insert + update + delete + other;
+    }
+
+    public int getMaxRepeatedSelects() {
+        return selects.values().stream().max(Integer::compare).orElse(0);
+    }
+
+    public String getMostRepeatedSelect() {
+        return selects.entrySet().stream().max(Map.Entry.comparingByValue()).map(Map.Entry::getKey).orElse(null);
+    }
+
+    @Override
+    public String toString() {
+        return "select=" + select + ", insert=" + insert + ", update=" + update + ", delete=" + delete + ", other=" + other;
+    }
+
+}
@@ -0,0 +1,54 @@
+package br.com.company.taskManagement.jdbc;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+
+import java.util.List;
+
+public class StatementCounter implements QueryExecutionListener {
+
+    private static final ThreadLocal<StatementCount> COUNT = new ThreadLocal<>();
+
+    public static StatementCount current() {
+        StatementCount count = COUNT.get();
+        return count != null ? count : new StatementCount();
+    }
+
+    /**
+     * Começa uma contagem nova na thread atual. Statements executados fora de um
+     * {@code reset()}/{@link #clear()} não são contados, para que threads sem unidade de
+     * trabalho delimitada (agendadores, ingestão) não acumulem selects indefinidamente.
+     */
+    public static void reset() {
+        COUNT.set(new StatementCount());
+    }
+
+    public static void clear() {
+        COUNT.remove();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        StatementCount count = COUNT.get();
+        if (count == null)
+            return;
+        queryInfoList.forEach(queryInfo -> count.add(typeOf(queryInfo.getQuery()), queryInfo.getQuery()));
+    }
+
+    private StatementType typeOf(String query) {
+        return switch (QueryUtils.getQueryType(query)) {
+            case SELECT -> StatementType.SELECT;
+            case INSERT -> StatementType.INSERT;
+            case UPDATE -> StatementType.UPDATE;
+            case DELETE -> StatementType.DELETE;
+            default -> StatementType.OTHER;
+        };
+    }
+
+}
@@ -0,0 +1,5 @@
+package br.com.company.taskManagement.jdbc;
+
+public enum StatementType {
+    SELECT, INSERT, UPDATE, DELETE, OTHER
+}
@@ -0,0 +1,62 @@
+package br.com.company.taskManagement.pagination;
+
+import br.com.company.taskManagement.dto.CursorPageDto;
+import br.com.company.taskManagement.exception.ExceptionMessage;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Function;
+
+public class Cursor {
+
+    private static final Map<String, Function<String, Object>> KEYS = Map.of("id", Long::valueOf);
+
+    public static Sort sort(Sort sort) throws ExceptionMessage {
+        for (Sort.Order order : sort) {
+            if (!KEYS.containsKey(order.getProperty()))
+                throw new ExceptionMessage("Ordenação não suportada na paginação por cursor: " + order.getProperty());
+        }
+        return sort.isSorted() ? sort : Sort.by("id");
+    }
+
+    public static KeysetScrollPosition decode(String after) throws ExceptionMessage {
+        if (after == null || after.isBlank())
+            return ScrollPosition.keyset();
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        try {
+            String token = new String(Base64.getUrlDecoder().decode(after), StandardCharsets.UTF_8);
+            for (String pair : token.split("&")) {
+                String[] keyValue = pair.split("=", 2);
+                String key = URLDecoder.decode(keyValue[0], StandardCharsets.UTF_8);
+                if (!KEYS.containsKey(key) || keyValue.length != 2)
+                    throw new ExceptionMessage("Cursor inválido!");
+                keys.put(key, KEYS.get(key).apply(URLDecoder.decode(keyValue[1], StandardCharsets.UTF_8)));
+            }
+        } catch (RuntimeException ex) {
+            throw new ExceptionMessage("Cursor inválido!");
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    public static String encode(KeysetScrollPosition position) {
+        StringJoiner token = new StringJoiner("&");
+        position.getKeys().forEach((key, value) -> token.add(URLEncoder.encode(key, StandardCharsets.UTF_8)
+                + "=" + URLEncoder.encode(String.valueOf(value), StandardCharsets.UTF_8)));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static <T> CursorPageDto<T> toPage(Window<T> window) {
+        String next = window.hasNext() && !window.isEmpty()
+                ? encode((KeysetScrollPosition) window.positionAt(window.size() - 1))
+                : null;
+        return new CursorPageDto<>(window.getContent(), window.size(), next);
+    }
+
+}
@@ -0,0 +1,22 @@
+package br.com.company.taskManagement.pagination;
+
+import br.com.company.taskManagement.dto.PageDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+public class Offset {
+
+    public static Pageable stable(Pageable pageable) {
+        if (pageable.isUnpaged() || pageable.getSort().getOrderFor("id") != null)
+            return pageable;
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort().and(Sort.by("id")));
+    }
+
+    public static <T> PageDto<T> toPage(Page<T> page) {
+        Integer next = page.hasNext() ? page.getNumber() + 1 : null;
+        return new PageDto<>(page.getContent(), next, page.getTotalElements());
+    }
+
+}
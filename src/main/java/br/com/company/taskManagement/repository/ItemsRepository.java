@@ -1,24 +1,66 @@
 package br.com.company.taskManagement.repository;
 
 import br.com.company.taskManagement.entity.Items;
-import br.com.company.taskManagement.enums.Priority;
+import br.com.company.taskManagement.repository.projection.PriorityTotalView;
+import br.com.company.taskManagement.repository.projection.TitleView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface ItemsRepository extends JpaRepository<Items, Long> {
+public interface ItemsRepository extends JpaRepository<Items, Long>, JpaSpecificationExecutor<Items> {
     Page<Items> findAll(Pageable pageable);
 
-    @Query("SELECT f FROM Items f WHERE (:priority IS NULL OR f.priority = :priority) " +
-            "AND (:creationDate IS NULL OR f.creationDate >= :creationDate) " +
-            "AND (:finishDate IS NULL OR f.finishDate <= :finishDate) " +
-            "AND (:title IS NULL OR f.title LIKE %:title%)")
-    Page<Items> findByFilters(@Param("priority") Priority priority, @Param("creationDate") LocalDateTime creationDate,
-                              @Param("finishDate") LocalDateTime finishDate, @Param("title") String title, Pageable pageable);
+    List<TitleView> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT i FROM Items i")
+    Stream<Items> streamAll();
+
+    Page<Items> findByListsId(Long listId, Pageable pageable);
+
+    List<Items> findByListsIdIn(Collection<Long> ids);
+
+    @Query("SELECT i.version FROM Items i WHERE i.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT i.lists.id AS listId, i.priority AS priority, COUNT(i) AS total FROM Items i " +
+            "WHERE i.lists IS NOT NULL AND i.priority IS NOT NULL GROUP BY i.lists.id, i.priority")
+    List<PriorityTotalView> countByListAndPriority();
+
+    @Query("SELECT i.lists.id AS listId, i.priority AS priority, COUNT(i) AS total FROM Items i " +
+            "WHERE i.lists.id = :listId AND i.priority IS NOT NULL GROUP BY i.lists.id, i.priority")
+    List<PriorityTotalView> countByPriority(@Param("listId") Long listId);
+
+    @Query("SELECT i.lists.id AS listId, i.priority AS priority, COUNT(i) AS total FROM Items i " +
+            "WHERE i.id IN :ids AND i.lists IS NOT NULL GROUP BY i.lists.id, i.priority")
+    List<PriorityTotalView> countByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT i.id FROM Items i WHERE i.lists.id IN :listIds")
+    List<Long> findIdsByListIdIn(@Param("listIds") Collection<Long> listIds);
+
+    @Modifying
+    @Query("DELETE FROM Items i WHERE i.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM Items i WHERE i.lists.id IN :listIds")
+    int deleteByListIdIn(@Param("listIds") Collection<Long> listIds);
 }
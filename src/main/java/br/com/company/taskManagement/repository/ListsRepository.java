@@ -1,24 +1,50 @@
 package br.com.company.taskManagement.repository;
 
 import br.com.company.taskManagement.entity.Lists;
-import br.com.company.taskManagement.enums.Priority;
+import br.com.company.taskManagement.repository.projection.TitleView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface ListsRepository  extends JpaRepository<Lists, Long> {
+public interface ListsRepository  extends JpaRepository<Lists, Long>, JpaSpecificationExecutor<Lists> {
     Page<Lists> findAll(Pageable pageable);
 
-    @Query("SELECT f FROM Items f WHERE (:priority IS NULL OR f.priority = :priority) " +
-            "AND (:creationDate IS NULL OR f.creationDate >= :creationDate) " +
-            "AND (:finishDate IS NULL OR f.finishDate <= :finishDate) " +
-            "AND (:title IS NULL OR f.title LIKE %:title%)")
-    Page<Lists> findByFilters(@Param("priority") Priority priority, @Param("creationDate")LocalDateTime creationDate,
-            @Param("finishDate") LocalDateTime finishDate, @Param("title") String title, Pageable pageable);
+    List<TitleView> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT l FROM Lists l")
+    Stream<Lists> streamAll();
+
+    @Query("SELECT l.version FROM Lists l WHERE l.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Lists l SET l.version = l.version + 1 WHERE l.id = :id")
+    int incrementVersion(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Lists l SET l.version = l.version + 1 WHERE l.id IN :ids")
+    int incrementVersions(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM Lists l WHERE l.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,38 @@
+package br.com.company.taskManagement.repository;
+
+import br.com.company.taskManagement.entity.PriorityCount;
+import br.com.company.taskManagement.entity.PriorityCountId;
+import br.com.company.taskManagement.enums.Priority;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PriorityCountRepository extends JpaRepository<PriorityCount, PriorityCountId> {
+
+    @Query("SELECT p FROM PriorityCount p WHERE p.id.listId = :listId")
+    List<PriorityCount> findByListId(@Param("listId") Long listId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM PriorityCount p WHERE p.id.listId = :listId")
+    List<PriorityCount> findLockedByListId(@Param("listId") Long listId);
+
+    @Modifying
+    @Query("UPDATE PriorityCount p SET p.total = p.total + :delta WHERE p.id.listId = :listId AND p.id.priority = :priority")
+    int add(@Param("listId") Long listId, @Param("priority") Priority priority, @Param("delta") long delta);
+
+    @Modifying
+    @Query("DELETE FROM PriorityCount p WHERE p.id.listId = :listId")
+    int deleteByListId(@Param("listId") Long listId);
+
+    @Modifying
+    @Query("DELETE FROM PriorityCount p WHERE p.id.listId IN :listIds")
+    int deleteByListIdIn(@Param("listIds") Collection<Long> listIds);
+}
@@ -0,0 +1,95 @@
+package br.com.company.taskManagement.repository;
+
+import br.com.company.taskManagement.exception.ExceptionMessage;
+import br.com.company.taskManagement.repository.projection.Fields;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import jakarta.persistence.criteria.*;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+
+@Repository
+public class ProjectionRepository {
+
+    @Autowired
+    EntityManager entityManager;
+
+    public <T> Page<Map<String, Object>> findAll(Class<T> type, Specification<T> specification, Set<String> fields, Pageable pageable) throws ExceptionMessage {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<T> root = query.from(type);
+        query.multiselect(selections(type, root, fields));
+        Predicate predicate = specification.toPredicate(root, query, builder);
+        if (predicate != null)
+            query.where(predicate);
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, builder));
+
+        List<Tuple> tuples = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        List<Map<String, Object>> content = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (TupleElement<?> element : tuple.getElements())
+                row.put(element.getAlias(), tuple.get(element));
+            content.add(row);
+        }
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(type, specification));
+    }
+
+    public <T> List<Long> findIds(Class<T> type, Specification<T> specification, Long after, int limit) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        Root<T> root = query.from(type);
+        query.select(root.get(Fields.ID));
+        List<Predicate> predicates = new ArrayList<>();
+        Predicate predicate = specification.toPredicate(root, query, builder);
+        if (predicate != null)
+            predicates.add(predicate);
+        if (after != null)
+            predicates.add(builder.greaterThan(root.get(Fields.ID), after));
+        query.where(predicates.toArray(new Predicate[0]));
+        query.orderBy(builder.asc(root.get(Fields.ID)));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private <T> List<Selection<?>> selections(Class<T> type, Root<T> root, Set<String> fields) throws ExceptionMessage {
+        EntityType<T> entity = entityManager.getMetamodel().entity(type);
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (String field : fields) {
+            Attribute<? super T, ?> attribute = entity.getAttributes().stream()
+                    .filter(attr -> attr.getName().equals(field))
+                    .findFirst()
+                    .orElse(null);
+            if (attribute == null || attribute.getPersistentAttributeType() != Attribute.PersistentAttributeType.BASIC)
+                throw new ExceptionMessage("Campo não suportado: " + field);
+            selections.add(root.get(field).alias(field));
+        }
+        return selections;
+    }
+
+    private <T> long count(Class<T> type, Specification<T> specification) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        Root<T> root = query.from(type);
+        query.select(builder.count(root));
+        Predicate predicate = specification.toPredicate(root, query, builder);
+        if (predicate != null)
+            query.where(predicate);
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+}
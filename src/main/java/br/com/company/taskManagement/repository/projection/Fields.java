@@ -0,0 +1,26 @@
+package br.com.company.taskManagement.repository.projection;
+
+import br.com.company.taskManagement.exception.ExceptionMessage;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+public class Fields {
+
+    public static final String ID = "id";
+    public static final String ITEMS = "items";
+
+    public static Set<String> parse(String fields, String after) throws ExceptionMessage {
+        if (after != null)
+            throw new ExceptionMessage("O parâmetro fields não é suportado na paginação por cursor!");
+        Set<String> parsed = new LinkedHashSet<>();
+        parsed.add(ID);
+        Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .forEach(parsed::add);
+        return parsed;
+    }
+
+}
@@ -0,0 +1,13 @@
+package br.com.company.taskManagement.repository.projection;
+
+import br.com.company.taskManagement.enums.Priority;
+
+public interface PriorityTotalView {
+
+    Long getListId();
+
+    Priority getPriority();
+
+    Long getTotal();
+
+}
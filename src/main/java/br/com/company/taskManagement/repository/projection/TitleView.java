@@ -0,0 +1,9 @@
+package br.com.company.taskManagement.repository.projection;
+
+public interface TitleView {
+
+    Long getId();
+
+    String getTitle();
+
+}
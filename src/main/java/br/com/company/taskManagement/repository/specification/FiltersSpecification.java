@@ -0,0 +1,36 @@
+package br.com.company.taskManagement.repository.specification;
+
+import br.com.company.taskManagement.enums.Priority;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public class FiltersSpecification {
+
+    public static <T> Specification<T> of(Priority priority, LocalDateTime creationDate, LocalDateTime finishDate, String title,
+                                         Collection<Long> titleIds) {
+        return (root, query, builder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (priority != null)
+                predicates.add(builder.equal(root.get("priority"), priority));
+            if (creationDate != null)
+                predicates.add(builder.greaterThanOrEqualTo(root.get("creationDate"), creationDate));
+            if (finishDate != null)
+                predicates.add(builder.lessThanOrEqualTo(root.get("finishDate"), finishDate));
+            if (title != null)
+                predicates.add(builder.like(root.get("title"), "%" + title + "%"));
+            if (titleIds != null)
+                predicates.add(titleIds.isEmpty() ? builder.disjunction() : root.get("id").in(titleIds));
+            return builder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    public static boolean hasAny(Priority priority, LocalDateTime creationDate, LocalDateTime finishDate, String title) {
+        return priority != null || creationDate != null || finishDate != null || title != null;
+    }
+
+}
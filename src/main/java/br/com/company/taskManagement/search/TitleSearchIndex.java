@@ -0,0 +1,136 @@
+package br.com.company.taskManagement.search;
+
+import br.com.company.taskManagement.entity.Items;
+import br.com.company.taskManagement.entity.Lists;
+import br.com.company.taskManagement.repository.ItemsRepository;
+import br.com.company.taskManagement.repository.ListsRepository;
+import br.com.company.taskManagement.repository.projection.TitleView;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+@Component
+public class TitleSearchIndex {
+
+    @Autowired
+    ItemsRepository itemsRepository;
+
+    @Autowired
+    ListsRepository listsRepository;
+
+    @Value("${search.title.enabled:true}")
+    boolean enabled;
+
+    @Value("${search.title.single-writer:false}")
+    boolean singleWriter;
+
+    @Value("${search.title.max-candidates:1000}")
+    int maxCandidates;
+
+    @Value("${search.title.load-batch-size:5000}")
+    int loadBatchSize;
+
+    private final TrigramIndex itemsIndex = new TrigramIndex();
+    private final TrigramIndex listsIndex = new TrigramIndex();
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!active())
+            return;
+        load(itemsIndex, itemsRepository::findByIdGreaterThanOrderByIdAsc);
+        load(listsIndex, listsRepository::findByIdGreaterThanOrderByIdAsc);
+        ready = true;
+    }
+
+    public Optional<Set<Long>> searchItems(String title) {
+        return search(itemsIndex, title);
+    }
+
+    public Optional<Set<Long>> searchLists(String title) {
+        return search(listsIndex, title);
+    }
+
+    public void putItems(Items items) {
+        if (items == null || !active())
+            return;
+        Long id = items.getId();
+        String title = items.getTitle();
+        afterCommit(() -> itemsIndex.put(id, title));
+    }
+
+    public void removeItems(Long id) {
+        if (!active())
+            return;
+        afterCommit(() -> itemsIndex.remove(id));
+    }
+
+    public void putLists(Lists lists) {
+        if (lists == null || !active())
+            return;
+        Long id = lists.getId();
+        String title = lists.getTitle();
+        afterCommit(() -> listsIndex.put(id, title));
+        if (lists.getItems() != null)
+            lists.getItems().forEach(this::putItems);
+    }
+
+    public void removeLists(Long id) {
+        if (!active())
+            return;
+        afterCommit(() -> listsIndex.remove(id));
+    }
+
+    /**
+     * Fora do modo single-writer o índice não é consultado, então também não é carregado nem mantido.
+     */
+    private boolean active() {
+        return enabled && singleWriter;
+    }
+
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    private Optional<Set<Long>> search(TrigramIndex index, String title) {
+        if (!ready || !active() || title == null || hasWildcard(title))
+            return Optional.empty();
+        return index.search(title, maxCandidates);
+    }
+
+    private static boolean hasWildcard(String title) {
+        return title.indexOf('%') >= 0 || title.indexOf('_') >= 0 || title.indexOf('\\') >= 0;
+    }
+
+    private void load(TrigramIndex index, BiFunction<Long, Limit, List<TitleView>> batch) {
+        long lastId = 0L;
+        List<TitleView> titles;
+        do {
+            titles = batch.apply(lastId, Limit.of(loadBatchSize));
+            for (TitleView title : titles) {
+                index.put(title.getId(), title.getTitle());
+                lastId = title.getId();
+            }
+        } while (titles.size() == loadBatchSize);
+    }
+
+}
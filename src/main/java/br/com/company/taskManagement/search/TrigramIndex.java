@@ -0,0 +1,124 @@
+package br.com.company.taskManagement.search;
+
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+public class TrigramIndex {
+
+    public static final int GRAM_SIZE = 3;
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private final Map<String, Roaring64Bitmap> postings = new HashMap<>();
+    private final Map<Long, String> titles = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(Long id, String title) {
+        if (id == null)
+            return;
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            if (title == null)
+                return;
+            String normalized = normalize(title);
+            titles.put(id, normalized);
+            for (String gram : grams(normalized))
+                postings.computeIfAbsent(gram, key -> new Roaring64Bitmap()).addLong(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        if (id == null)
+            return;
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<Set<Long>> search(String query) {
+        return search(query, Integer.MAX_VALUE);
+    }
+
+    public Optional<Set<Long>> search(String query, int limit) {
+        String normalized = normalize(query);
+        if (normalized.length() < GRAM_SIZE)
+            return Optional.empty();
+
+        lock.readLock().lock();
+        try {
+            List<Roaring64Bitmap> matches = new ArrayList<>();
+            for (String gram : grams(normalized)) {
+                Roaring64Bitmap posting = postings.get(gram);
+                if (posting == null)
+                    return Optional.of(Collections.emptySet());
+                matches.add(posting);
+            }
+            matches.sort(Comparator.comparingLong(Roaring64Bitmap::getLongCardinality));
+
+            Roaring64Bitmap candidates = matches.get(0).clone();
+            for (int i = 1; i < matches.size() && !candidates.isEmpty(); i++)
+                candidates.and(matches.get(i));
+
+            Set<Long> ids = new HashSet<>();
+            Iterator<Long> iterator = candidates.iterator();
+            while (iterator.hasNext()) {
+                Long id = iterator.next();
+                if (titles.get(id).contains(normalized) && ids.add(id) && ids.size() > limit)
+                    return Optional.empty();
+            }
+            return Optional.of(ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return titles.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeLocked(Long id) {
+        String previous = titles.remove(id);
+        if (previous == null)
+            return;
+        for (String gram : grams(previous)) {
+            Roaring64Bitmap posting = postings.get(gram);
+            if (posting == null)
+                continue;
+            posting.removeLong(id);
+            if (posting.isEmpty())
+                postings.remove(gram);
+        }
+    }
+
+    private static Set<String> grams(String normalized) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= normalized.length(); i++)
+            grams.add(normalized.substring(i, i + GRAM_SIZE));
+        return grams;
+    }
+
+    /**
+     * Ignora caixa e acentos como a collation padrão do MySQL, para que os candidatos sejam
+     * sempre um superconjunto do que o LIKE encontra.
+     */
+    private static String normalize(String value) {
+        return MARKS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+}
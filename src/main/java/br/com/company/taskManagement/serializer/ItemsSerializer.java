@@ -0,0 +1,49 @@
+package br.com.company.taskManagement.serializer;
+
+import br.com.company.taskManagement.entity.Items;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+
+import java.io.IOException;
+
+public class ItemsSerializer extends JsonSerializer<Items> implements ContextualSerializer {
+
+    private final JsonFields fields;
+
+    public ItemsSerializer() {
+        this(null);
+    }
+
+    private ItemsSerializer(JsonFields fields) {
+        this.fields = fields;
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+        return new ItemsSerializer(JsonFields.of(provider, Items.class));
+    }
+
+    @Override
+    public void serialize(Items items, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        JsonFields fields = this.fields != null ? this.fields : JsonFields.of(provider, Items.class);
+        gen.writeStartObject();
+        fields.writeNumber(gen, "id", items.getId());
+        fields.writeString(gen, "title", items.getTitle());
+        fields.writeString(gen, "description", items.getDescription());
+        fields.writeDate(gen, provider, "creationDate", items.getCreationDate());
+        fields.writeDate(gen, provider, "finishDate", items.getFinishDate());
+        fields.writeEnum(gen, "priority", items.getPriority());
+        fields.writeNumber(gen, "version", items.getVersion());
+        gen.writeEndObject();
+    }
+
+    @Override
+    public Class<Items> handledType() {
+        return Items.class;
+    }
+
+}
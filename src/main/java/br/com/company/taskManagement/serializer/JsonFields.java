@@ -0,0 +1,81 @@
+package br.com.company.taskManagement.serializer;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Configuração do ObjectMapper resolvida uma vez por serializer: inclusão de nulos, estratégia
+ * de nomes e o serializer de datas configurado (spring.jackson.*).
+ */
+class JsonFields {
+
+    private final boolean skipNulls;
+    private final PropertyNamingStrategies.NamingBase naming;
+    private final JsonSerializer<Object> dates;
+
+    private JsonFields(boolean skipNulls, PropertyNamingStrategies.NamingBase naming, JsonSerializer<Object> dates) {
+        this.skipNulls = skipNulls;
+        this.naming = naming;
+        this.dates = dates;
+    }
+
+    static JsonFields of(SerializerProvider provider, Class<?> type) throws JsonMappingException {
+        JsonInclude.Include inclusion = provider.getConfig().getDefaultPropertyInclusion(type).getValueInclusion();
+        PropertyNamingStrategy strategy = provider.getConfig().getPropertyNamingStrategy();
+        return new JsonFields(
+                inclusion != JsonInclude.Include.ALWAYS && inclusion != JsonInclude.Include.USE_DEFAULTS,
+                strategy instanceof PropertyNamingStrategies.NamingBase naming ? naming : null,
+                provider.findValueSerializer(LocalDateTime.class, null));
+    }
+
+    boolean skip(Object value) {
+        return value == null && skipNulls;
+    }
+
+    void writeName(JsonGenerator gen, String name) throws IOException {
+        gen.writeFieldName(naming != null ? naming.translate(name) : name);
+    }
+
+    void writeNumber(JsonGenerator gen, String name, Long value) throws IOException {
+        if (skip(value))
+            return;
+        writeName(gen, name);
+        if (value == null)
+            gen.writeNull();
+        else
+            gen.writeNumber(value);
+    }
+
+    void writeString(JsonGenerator gen, String name, String value) throws IOException {
+        if (skip(value))
+            return;
+        writeName(gen, name);
+        gen.writeString(value);
+    }
+
+    void writeDate(JsonGenerator gen, SerializerProvider provider, String name, LocalDateTime value) throws IOException {
+        if (skip(value))
+            return;
+        writeName(gen, name);
+        if (value == null)
+            gen.writeNull();
+        else
+            dates.serialize(value, gen, provider);
+    }
+
+    void writeEnum(JsonGenerator gen, String name, Enum<?> value) throws IOException {
+        if (skip(value))
+            return;
+        writeName(gen, name);
+        gen.writeString(value != null ? value.name() : null);
+    }
+
+}
@@ -0,0 +1,65 @@
+package br.com.company.taskManagement.serializer;
+
+import br.com.company.taskManagement.entity.Items;
+import br.com.company.taskManagement.entity.Lists;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+
+import java.io.IOException;
+
+public class ListsSerializer extends JsonSerializer<Lists> implements ContextualSerializer {
+
+    private final JsonFields fields;
+    private final JsonSerializer<Items> items;
+
+    public ListsSerializer() {
+        this(null, new ItemsSerializer());
+    }
+
+    private ListsSerializer(JsonFields fields, JsonSerializer<Items> items) {
+        this.fields = fields;
+        this.items = items;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+        return new ListsSerializer(JsonFields.of(provider, Lists.class),
+                (JsonSerializer<Items>) new ItemsSerializer().createContextual(provider, property));
+    }
+
+    @Override
+    public void serialize(Lists lists, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        JsonFields fields = this.fields != null ? this.fields : JsonFields.of(provider, Lists.class);
+        gen.writeStartObject();
+        fields.writeNumber(gen, "id", lists.getId());
+        fields.writeString(gen, "title", lists.getTitle());
+        fields.writeString(gen, "description", lists.getDescription());
+        if (!fields.skip(lists.getItems())) {
+            fields.writeName(gen, "items");
+            if (lists.getItems() == null) {
+                gen.writeNull();
+            } else {
+                gen.writeStartArray();
+                for (Items element : lists.getItems())
+                    items.serialize(element, gen, provider);
+                gen.writeEndArray();
+            }
+        }
+        fields.writeDate(gen, provider, "creationDate", lists.getCreationDate());
+        fields.writeDate(gen, provider, "finishDate", lists.getFinishDate());
+        fields.writeEnum(gen, "priority", lists.getPriority());
+        fields.writeNumber(gen, "version", lists.getVersion());
+        gen.writeEndObject();
+    }
+
+    @Override
+    public Class<Lists> handledType() {
+        return Lists.class;
+    }
+
+}
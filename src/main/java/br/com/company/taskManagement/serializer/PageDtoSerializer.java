@@ -0,0 +1,82 @@
+package br.com.company.taskManagement.serializer;
+
+import br.com.company.taskManagement.dto.PageDto;
+import br.com.company.taskManagement.entity.Items;
+import br.com.company.taskManagement.entity.Lists;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+
+import java.io.IOException;
+
+/**
+ * Registrado só em {@link PageDto}: as páginas offset de listas e itens usam os serializers
+ * precompilados, o resto da API continua no serializer padrão do ObjectMapper.
+ */
+public class PageDtoSerializer extends JsonSerializer<PageDto<?>> implements ContextualSerializer {
+
+    private final JsonSerializer<?> items;
+    private final JsonSerializer<?> lists;
+
+    public PageDtoSerializer() {
+        this(new ItemsSerializer(), new ListsSerializer());
+    }
+
+    private PageDtoSerializer(JsonSerializer<?> items, JsonSerializer<?> lists) {
+        this.items = items;
+        this.lists = lists;
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+        return new PageDtoSerializer(new ItemsSerializer().createContextual(provider, property),
+                new ListsSerializer().createContextual(provider, property));
+    }
+
+    @Override
+    public void serialize(PageDto<?> page, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject();
+        gen.writeFieldName("content");
+        gen.writeStartArray();
+        if (page.getContent() != null) {
+            Class<?> type = null;
+            JsonSerializer<Object> serializer = null;
+            for (Object element : page.getContent()) {
+                if (element == null) {
+                    gen.writeNull();
+                    continue;
+                }
+                if (element.getClass() != type) {
+                    type = element.getClass();
+                    serializer = serializerOf(type, provider);
+                }
+                serializer.serialize(element, gen, provider);
+            }
+        }
+        gen.writeEndArray();
+        if (page.getNext() != null)
+            gen.writeNumberField("next", page.getNext());
+        if (page.getTotal() != null)
+            gen.writeNumberField("total", page.getTotal());
+        gen.writeEndObject();
+    }
+
+    @SuppressWarnings("unchecked")
+    private JsonSerializer<Object> serializerOf(Class<?> type, SerializerProvider provider) throws IOException {
+        if (type == Items.class)
+            return (JsonSerializer<Object>) items;
+        if (type == Lists.class)
+            return (JsonSerializer<Object>) lists;
+        return provider.findTypedValueSerializer(type, true, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Class<PageDto<?>> handledType() {
+        return (Class<PageDto<?>>) (Class<?>) PageDto.class;
+    }
+
+}
@@ -0,0 +1,43 @@
+package br.com.company.taskManagement.service;
+
+import br.com.company.taskManagement.exception.ExceptionMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+@Component
+public class ConcurrencyRetry {
+
+    @Value("${concurrency.retry.max-attempts:3}")
+    int maxAttempts;
+
+    @Value("${concurrency.retry.backoff-ms:10}")
+    long backoffMs;
+
+    public <T> T execute(RetryableCall<T> call) throws ExceptionMessage {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return call.call();
+            } catch (ConcurrencyFailureException ex) {
+                if (attempt >= maxAttempts)
+                    throw ex;
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        try {
+            Thread.sleep(backoffMs * attempt + ThreadLocalRandom.current().nextLong(backoffMs + 1));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public interface RetryableCall<T> {
+        T call() throws ExceptionMessage;
+    }
+
+}
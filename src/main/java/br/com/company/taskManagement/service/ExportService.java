@@ -0,0 +1,116 @@
+package br.com.company.taskManagement.service;
+
+import br.com.company.taskManagement.entity.Items;
+import br.com.company.taskManagement.entity.Lists;
+import br.com.company.taskManagement.enums.ExportFormat;
+import br.com.company.taskManagement.repository.ItemsRepository;
+import br.com.company.taskManagement.repository.ListsRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+public class ExportService {
+
+    private static final String[] ITEMS_COLUMNS = {"id", "listId", "title", "description", "creationDate", "finishDate", "priority"};
+    private static final String[] LISTS_COLUMNS = {"id", "title", "description", "creationDate", "finishDate", "priority"};
+
+    @Autowired
+    ItemsRepository itemsRepository;
+
+    @Autowired
+    ListsRepository listsRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public void exportItems(ExportFormat format, OutputStream outputStream) throws IOException {
+        try (Stream<Items> items = itemsRepository.streamAll()) {
+            export(format, ITEMS_COLUMNS, items.iterator(), itm -> new Object[]{
+                    itm.getId(),
+                    itm.getLists() != null ? itm.getLists().getId() : null,
+                    itm.getTitle(),
+                    itm.getDescription(),
+                    itm.getCreationDate(),
+                    itm.getFinishDate(),
+                    itm.getPriority()}, outputStream);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportLists(ExportFormat format, OutputStream outputStream) throws IOException {
+        try (Stream<Lists> lists = listsRepository.streamAll()) {
+            export(format, LISTS_COLUMNS, lists.iterator(), lst -> new Object[]{
+                    lst.getId(),
+                    lst.getTitle(),
+                    lst.getDescription(),
+                    lst.getCreationDate(),
+                    lst.getFinishDate(),
+                    lst.getPriority()}, outputStream);
+        }
+    }
+
+    private <T> void export(ExportFormat format, String[] columns, Iterator<T> rows, RowMapper<T> mapper,
+                            OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV)
+            writeCsvRow(writer, columns);
+
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        while (rows.hasNext()) {
+            T row = rows.next();
+            Object[] values = mapper.map(row);
+            if (format == ExportFormat.CSV) {
+                writeCsvRow(writer, values);
+            } else {
+                writeJsonRow(generator, columns, values);
+                generator.flush();
+                writer.write('\n');
+            }
+            entityManager.detach(row);
+        }
+        generator.close();
+        writer.flush();
+    }
+
+    private void writeJsonRow(JsonGenerator generator, String[] columns, Object[] values) throws IOException {
+        generator.writeStartObject();
+        for (int i = 0; i < columns.length; i++)
+            generator.writeObjectField(columns[i], values[i]);
+        generator.writeEndObject();
+    }
+
+    private void writeCsvRow(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0)
+                writer.write(',');
+            if (values[i] != null)
+                writer.write(escapeCsv(values[i].toString()));
+        }
+        writer.write('\n');
+    }
+
+    private String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0)
+            return value;
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private interface RowMapper<T> {
+        Object[] map(T row);
+    }
+
+}
@@ -0,0 +1,190 @@
+package br.com.company.taskManagement.service;
+
+import br.com.company.taskManagement.config.CacheConfig;
+import br.com.company.taskManagement.dto.ImportErrorDto;
+import br.com.company.taskManagement.dto.ImportReportDto;
+import br.com.company.taskManagement.dto.ItemsDto;
+import br.com.company.taskManagement.entity.Items;
+import br.com.company.taskManagement.exception.ExceptionMessage;
+import br.com.company.taskManagement.repository.ListsRepository;
+import br.com.company.taskManagement.search.TitleSearchIndex;
+import br.com.company.taskManagement.validations.TitleSizeValidation;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class ImportService {
+
+    @Autowired
+    ListsRepository listsRepository;
+
+    @Autowired
+    ItemsService itemsService;
+
+    @Autowired
+    TitleSearchIndex titleSearchIndex;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    ConcurrencyRetry concurrencyRetry;
+
+    @Value("${import.batch-size:500}")
+    int batchSize;
+
+    @Value("${import.max-errors:1000}")
+    int maxErrors;
+
+    @Value("${import.max-line-length:65536}")
+    int maxLineLength;
+
+    @CacheEvict(cacheNames = CacheConfig.LISTS, key = "#id")
+    public ImportReportDto importItems(Long id, InputStream inputStream) throws ExceptionMessage, IOException {
+        if (!listsRepository.existsById(id))
+            throw new ExceptionMessage("Lista não encontrada!");
+
+        ImportReportDto report = new ImportReportDto();
+        List<ItemsDto> batch = new ArrayList<>(batchSize);
+        List<Long> batchLines = new ArrayList<>(batchSize);
+        LineReader reader = new LineReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8), maxLineLength);
+
+        String line;
+        long lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (reader.isTooLong()) {
+                addError(report, lineNumber, "A linha excede o limite de " + maxLineLength + " caracteres");
+                continue;
+            }
+            if (line.isBlank())
+                continue;
+            try {
+                ItemsDto itemsDto = objectMapper.readValue(line, ItemsDto.class);
+                if (itemsDto.getTitle() == null || !TitleSizeValidation.isMinTitleSize(itemsDto.getTitle())
+                        || !TitleSizeValidation.isMaxTitleSize(itemsDto.getTitle())) {
+                    addError(report, lineNumber, "O título deve ser maior ou igual à 6 caracteres e até 20 caracteres");
+                    continue;
+                }
+                batch.add(itemsDto);
+                batchLines.add(lineNumber);
+            } catch (JsonProcessingException ex) {
+                addError(report, lineNumber, "JSON inválido: " + ex.getOriginalMessage());
+                continue;
+            }
+            if (batch.size() >= batchSize)
+                insertBatch(id, batch, batchLines, report);
+        }
+        if (!batch.isEmpty())
+            insertBatch(id, batch, batchLines, report);
+        return report;
+    }
+
+    private void insertBatch(Long id, List<ItemsDto> batch, List<Long> batchLines, ImportReportDto report) {
+        try {
+            insert(id, batch, report);
+        } catch (RuntimeException | ExceptionMessage ex) {
+            if (batch.size() == 1) {
+                addError(report, batchLines.get(0), ex.getMessage());
+            } else {
+                for (int i = 0; i < batch.size(); i++) {
+                    try {
+                        insert(id, List.of(batch.get(i)), report);
+                    } catch (RuntimeException | ExceptionMessage single) {
+                        addError(report, batchLines.get(i), single.getMessage());
+                    }
+                }
+            }
+        }
+        batch.clear();
+        batchLines.clear();
+    }
+
+    private void insert(Long id, List<ItemsDto> itemsDto, ImportReportDto report) throws ExceptionMessage {
+        List<Items> inserted = concurrencyRetry.execute(() -> itemsService.createItemsBatch(id, itemsDto));
+        inserted.forEach(titleSearchIndex::putItems);
+        report.setImported(report.getImported() + inserted.size());
+    }
+
+    private void addError(ImportReportDto report, long lineNumber, String message) {
+        report.setFailed(report.getFailed() + 1);
+        if (report.getErrors().size() < maxErrors)
+            report.getErrors().add(new ImportErrorDto(lineNumber, message));
+    }
+
+    /**
+     * Lê linhas terminadas em \n (ou \r\n) sem guardar mais que maxLength caracteres: o restante
+     * de uma linha longa é descartado e a linha é marcada como {@link #isTooLong()}.
+     */
+    static class LineReader {
+
+        private final Reader reader;
+        private final int maxLength;
+        private final char[] buffer = new char[8192];
+        private final StringBuilder line = new StringBuilder();
+        private int position;
+        private int limit;
+        private boolean tooLong;
+
+        LineReader(Reader reader, int maxLength) {
+            this.reader = reader;
+            this.maxLength = maxLength;
+        }
+
+        String readLine() throws IOException {
+            line.setLength(0);
+            tooLong = false;
+            boolean read = false;
+            while (true) {
+                if (position == limit) {
+                    limit = Math.max(reader.read(buffer), 0);
+                    position = 0;
+                    if (limit == 0)
+                        return read ? finish() : null;
+                }
+                read = true;
+                int start = position;
+                while (position < limit && buffer[position] != '\n')
+                    position++;
+                append(start, position);
+                if (position < limit) {
+                    position++;
+                    return finish();
+                }
+            }
+        }
+
+        boolean isTooLong() {
+            return tooLong;
+        }
+
+        private void append(int start, int end) {
+            int room = maxLength + 1 - line.length();
+            if (end - start > room)
+                tooLong = true;
+            line.append(buffer, start, Math.min(end - start, Math.max(room, 0)));
+        }
+
+        private String finish() {
+            if (!line.isEmpty() && line.charAt(line.length() - 1) == '\r')
+                line.setLength(line.length() - 1);
+            if (line.length() > maxLength)
+                tooLong = true;
+            return tooLong ? "" : line.toString();
+        }
+
+    }
+
+}
@@ -0,0 +1,237 @@
+package br.com.company.taskManagement.service;
+
+import br.com.company.taskManagement.dto.IngestionStatusDto;
+import br.com.company.taskManagement.dto.ItemsDto;
+import br.com.company.taskManagement.entity.Items;
+import br.com.company.taskManagement.enums.IngestionStatus;
+import br.com.company.taskManagement.exception.ExceptionMessage;
+import br.com.company.taskManagement.exception.QueueFullException;
+import br.com.company.taskManagement.repository.ListsRepository;
+import br.com.company.taskManagement.search.TitleSearchIndex;
+import br.com.company.taskManagement.validations.TitleSizeValidation;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Slf4j
+@Service
+public class ItemsIngestionService implements SmartLifecycle {
+
+    @Autowired
+    ItemsService itemsService;
+
+    @Autowired
+    ListsRepository listsRepository;
+
+    @Autowired
+    TitleSearchIndex titleSearchIndex;
+
+    @Autowired
+    ConcurrencyRetry concurrencyRetry;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Value("${ingestion.async-default:false}")
+    boolean asyncDefault;
+
+    @Value("${ingestion.queue-capacity:10000}")
+    int queueCapacity;
+
+    @Value("${ingestion.batch-size:500}")
+    int batchSize;
+
+    @Value("${ingestion.poll-ms:50}")
+    long pollMs;
+
+    @Value("${ingestion.status-ttl-minutes:60}")
+    long statusTtlMinutes;
+
+    @Value("${ingestion.status-max-size:100000}")
+    long statusMaxSize;
+
+    @Value("${ingestion.shutdown-timeout-ms:30000}")
+    long shutdownTimeoutMs;
+
+    private BlockingQueue<IngestionRequest> queue;
+    private Cache<String, IngestionStatusDto> statuses;
+    private Thread writer;
+    private final ReadWriteLock lifecycleLock = new ReentrantReadWriteLock();
+    private volatile boolean running;
+
+    @PostConstruct
+    void init() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        statuses = Caffeine.newBuilder()
+                .maximumSize(statusMaxSize)
+                .expireAfterWrite(Duration.ofMinutes(statusTtlMinutes))
+                .build();
+        Gauge.builder("ingestion.queue.size", queue, BlockingQueue::size)
+                .description("Items waiting for the ingestion writer")
+                .register(meterRegistry);
+    }
+
+    public boolean isAsyncDefault() {
+        return asyncDefault;
+    }
+
+    public IngestionStatusDto enqueue(Long id, ItemsDto itemsDto) throws ExceptionMessage {
+        if (!TitleSizeValidation.isMinTitleSize(itemsDto.getTitle()) || !TitleSizeValidation.isMaxTitleSize(itemsDto.getTitle()))
+            throw new ExceptionMessage("O título deve ser maior ou igual à 6 caracteres e até 20 caracteres");
+        if (!listsRepository.existsById(id))
+            throw new ExceptionMessage("Lista não encontrada!");
+
+        IngestionStatusDto status = IngestionStatusDto.builder()
+                .trackingId(UUID.randomUUID().toString())
+                .listId(id)
+                .status(IngestionStatus.PENDENTE)
+                .build();
+        statuses.put(status.getTrackingId(), status);
+        lifecycleLock.readLock().lock();
+        try {
+            if (!running || !queue.offer(new IngestionRequest(status.getTrackingId(), id, itemsDto))) {
+                statuses.invalidate(status.getTrackingId());
+                throw new QueueFullException();
+            }
+        } finally {
+            lifecycleLock.readLock().unlock();
+        }
+        return status;
+    }
+
+    public IngestionStatusDto findStatus(String trackingId) throws ExceptionMessage {
+        IngestionStatusDto status = statuses.getIfPresent(trackingId);
+        if (status == null)
+            throw new ExceptionMessage("Rastreamento não encontrado!");
+        return status;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writer = new Thread(this::drain, "items-ingestion");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void stop() {
+        lifecycleLock.writeLock().lock();
+        running = false;
+        lifecycleLock.writeLock().unlock();
+        try {
+            writer.join(shutdownTimeoutMs);
+            if (writer.isAlive()) {
+                writer.interrupt();
+                writer.join(shutdownTimeoutMs);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            log.error("Ingestão de itens não terminou no desligamento, {} itens ficaram pendentes", queue.size());
+            return;
+        }
+        List<IngestionRequest> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void drain() {
+        List<IngestionRequest> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                IngestionRequest first = queue.poll(pollMs, TimeUnit.MILLISECONDS);
+                if (first == null)
+                    continue;
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                log.error("Falha inesperada na ingestão de itens", ex);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<IngestionRequest> batch) {
+        Map<Long, List<IngestionRequest>> byLists = new LinkedHashMap<>();
+        batch.forEach(request -> byLists.computeIfAbsent(request.listId(), id -> new ArrayList<>()).add(request));
+        byLists.forEach((listId, requests) -> {
+            try {
+                insert(listId, requests);
+            } catch (RuntimeException | ExceptionMessage ex) {
+                if (requests.size() == 1) {
+                    fail(requests.get(0), ex);
+                    return;
+                }
+                for (IngestionRequest request : requests) {
+                    try {
+                        insert(listId, List.of(request));
+                    } catch (RuntimeException | ExceptionMessage single) {
+                        fail(request, single);
+                    }
+                }
+            }
+        });
+    }
+
+    private void insert(Long listId, List<IngestionRequest> requests) throws ExceptionMessage {
+        List<ItemsDto> itemsDto = requests.stream().map(IngestionRequest::itemsDto).toList();
+        List<Items> inserted = concurrencyRetry.execute(() -> itemsService.createItemsBatch(listId, itemsDto));
+        for (int i = 0; i < inserted.size(); i++) {
+            titleSearchIndex.putItems(inserted.get(i));
+            update(requests.get(i), IngestionStatus.CONCLUIDO, inserted.get(i).getId(), null);
+        }
+    }
+
+    private void fail(IngestionRequest request, Exception ex) {
+        log.warn("Falha ao gravar item {} da lista {}: {}", request.trackingId(), request.listId(), ex.getMessage());
+        update(request, IngestionStatus.FALHOU, null, ex.getMessage());
+    }
+
+    private void update(IngestionRequest request, IngestionStatus status, Long itemsId, String message) {
+        statuses.put(request.trackingId(), IngestionStatusDto.builder()
+                .trackingId(request.trackingId())
+                .listId(request.listId())
+                .status(status)
+                .itemsId(itemsId)
+                .message(message)
+                .build());
+    }
+
+    private record IngestionRequest(String trackingId, Long listId, ItemsDto itemsDto) {
+    }
+
+}
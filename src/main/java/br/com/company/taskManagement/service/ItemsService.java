@@ -1,21 +1,42 @@
 package br.com.company.taskManagement.service;
 
+import br.com.company.taskManagement.config.CacheConfig;
+import br.com.company.taskManagement.dto.CursorPageDto;
+import br.com.company.taskManagement.dto.DeleteReportDto;
 import br.com.company.taskManagement.dto.ItemsDto;
 import br.com.company.taskManagement.entity.Items;
 import br.com.company.taskManagement.entity.Lists;
 import br.com.company.taskManagement.enums.Priority;
 import br.com.company.taskManagement.exception.ExceptionMessage;
+import br.com.company.taskManagement.exception.VersionConflictException;
+import br.com.company.taskManagement.pagination.Cursor;
+import br.com.company.taskManagement.pagination.Offset;
 import br.com.company.taskManagement.repository.ItemsRepository;
 import br.com.company.taskManagement.repository.ListsRepository;
+import br.com.company.taskManagement.repository.ProjectionRepository;
+import br.com.company.taskManagement.repository.projection.PriorityTotalView;
+import br.com.company.taskManagement.repository.specification.FiltersSpecification;
+import br.com.company.taskManagement.search.TitleSearchIndex;
 import br.com.company.taskManagement.validations.TitleSizeValidation;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.*;
 
 @Service
 public class ItemsService {
@@ -26,67 +47,216 @@ public class ItemsService {
     @Autowired
     ListsRepository listsRepository;
 
+    @Autowired
+    ProjectionRepository projectionRepository;
+
+    @Autowired
+    TitleSearchIndex titleSearchIndex;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @Autowired
+    PriorityCountService priorityCountService;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Value("${bulk-delete.chunk-size:1000}")
+    int deleteChunkSize;
+
+    @Cacheable(cacheNames = CacheConfig.ITEMS, key = "#id")
     public Items findById(Long id) throws ExceptionMessage {
         return itemsRepository.findById(id).orElseThrow(() -> new ExceptionMessage("Items não encontrado!"));
     }
 
+    public Optional<Long> findVersionById(Long id) {
+        return itemsRepository.findVersionById(id);
+    }
+
     public Page<Items> findAll(Pageable pageable) {
         return itemsRepository.findAll(pageable);
     }
 
-    public Page<Items> findAllByLists(Long id, Pageable pageable) throws ExceptionMessage {
-        List<Items> items = listsRepository.findById(id).orElseThrow(() -> new ExceptionMessage("Lista não encontrada!")).getItems();
+    public CursorPageDto<Items> findAll(String after, Pageable pageable) throws ExceptionMessage {
+        return findByCursor(Specification.where(null), after, pageable);
+    }
 
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), items.size());
+    public Page<Map<String, Object>> findFields(Set<String> fields, Pageable pageable) throws ExceptionMessage {
+        return projectionRepository.findAll(Items.class, Specification.where(null), fields, pageable);
+    }
+
+    public Page<Items> findAllByLists(Long id, Pageable pageable) throws ExceptionMessage {
+        if (!listsRepository.existsById(id))
+            throw new ExceptionMessage("Lista não encontrada!");
 
-        return new PageImpl<>(items.subList(start, end), pageable, items.size());
+        return itemsRepository.findByListsId(id, Offset.stable(pageable));
     }
 
     public Page<Items> findByFilters(Priority priority, LocalDateTime creationDate, LocalDateTime finishDate, String title, Pageable pageable) {
-        return itemsRepository.findByFilters(priority,creationDate, finishDate, title, pageable);
+        return itemsRepository.findAll(FiltersSpecification.of(priority, creationDate, finishDate, title, titleSearchIndex.searchItems(title).orElse(null)), pageable);
     }
 
+    public CursorPageDto<Items> findByFilters(Priority priority, LocalDateTime creationDate, LocalDateTime finishDate, String title,
+                                              String after, Pageable pageable) throws ExceptionMessage {
+        return findByCursor(FiltersSpecification.of(priority, creationDate, finishDate, title, titleSearchIndex.searchItems(title).orElse(null)), after, pageable);
+    }
+
+    public Page<Map<String, Object>> findFieldsByFilters(Priority priority, LocalDateTime creationDate, LocalDateTime finishDate, String title,
+                                                         Set<String> fields, Pageable pageable) throws ExceptionMessage {
+        return projectionRepository.findAll(Items.class, FiltersSpecification.of(priority, creationDate, finishDate, title, titleSearchIndex.searchItems(title).orElse(null)), fields, pageable);
+    }
+
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.LISTS, key = "#id")
     public Items createItems(Long id, ItemsDto itemsDto) throws ExceptionMessage {
-        Lists lists = listsRepository.findById(id).orElseThrow(() -> new ExceptionMessage("Lista não encontrada!"));
+        if (!listsRepository.existsById(id))
+            throw new ExceptionMessage("Lista não encontrada!");
         Items items;
         if (TitleSizeValidation.isMinTitleSize(itemsDto.getTitle()) && TitleSizeValidation.isMaxTitleSize(itemsDto.getTitle())) {
             items = itemsDtoToItems(itemsDto);
-            lists.getItems().add(items);
-            listsRepository.save(lists);
+            items.setLists(listsRepository.getReferenceById(id));
+            items = itemsRepository.save(items);
+            listsRepository.incrementVersion(id);
+            priorityCountService.add(id, items.getPriority(), 1);
+            titleSearchIndex.putItems(items);
         } else {
             throw new ExceptionMessage("O título deve ser maior ou igual à 6 caracteres e até 20 caracteres");
         }
         return items;
     }
 
-    public Items putItems(Long id, ItemsDto itemsDto) throws ExceptionMessage {
-        Items existingItems = itemsRepository.findById(id).orElseThrow(() -> new ExceptionMessage("Item não encontrado!"));
-        if (TitleSizeValidation.isMinTitleSize(itemsDto.getTitle()) && TitleSizeValidation.isMaxTitleSize(itemsDto.getTitle())) {
-            existingItems.setTitle(itemsDto.getTitle());
-        } else {
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.LISTS, key = "#id")
+    public List<Items> createItemsBatch(Long id, List<ItemsDto> itemsDto) {
+        Lists lists = listsRepository.getReferenceById(id);
+        List<Items> itemsList = new ArrayList<>(itemsDto.size());
+        itemsDto.forEach(dto -> {
+            Items items = itemsDtoToItems(dto);
+            items.setLists(lists);
+            itemsList.add(items);
+        });
+        itemsRepository.saveAllAndFlush(itemsList);
+        listsRepository.incrementVersion(id);
+        priorityCountService.add(id, PriorityCountService.countOf(itemsList));
+        return itemsList;
+    }
+
+    @Transactional(rollbackFor = ExceptionMessage.class)
+    @CacheEvict(cacheNames = CacheConfig.ITEMS, key = "#id")
+    public Items putItems(Long id, ItemsDto itemsDto, Long version) throws ExceptionMessage {
+        if (!TitleSizeValidation.isMinTitleSize(itemsDto.getTitle()) || !TitleSizeValidation.isMaxTitleSize(itemsDto.getTitle()))
             throw new ExceptionMessage("O título deve ser maior ou igual à 6 caracteres e até 20 caracteres");
-        }
+        Items existingItems = itemsRepository.findById(id).orElseThrow(() -> new ExceptionMessage("Item não encontrado!"));
+        if (version != null && !version.equals(existingItems.getVersion()))
+            throw new VersionConflictException(existingItems.getVersion());
+        existingItems.setTitle(itemsDto.getTitle());
         existingItems.setDescription(itemsDto.getDescription());
         existingItems.setCreationDate(itemsDto.getCreationDate());
         existingItems.setFinishDate(itemsDto.getFinishDate());
+        if (existingItems.getLists() != null)
+            priorityCountService.move(existingItems.getLists().getId(), existingItems.getPriority(), itemsDto.getPriority());
         existingItems.setPriority(itemsDto.getPriority());
+        touchLists(existingItems.getLists());
 
-        return itemsRepository.save(existingItems);
+        Items items = itemsRepository.save(existingItems);
+        titleSearchIndex.putItems(items);
+        return items;
     }
 
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ITEMS, key = "#id")
     public void deleteById(Long id) {
+        itemsRepository.findById(id).ifPresent(items -> {
+            touchLists(items.getLists());
+            countRemoved(items);
+        });
         itemsRepository.deleteById(id);
+        titleSearchIndex.removeItems(id);
     }
 
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ITEMS, key = "#id")
     public void delete(Long id, Items items) throws ExceptionMessage {
         Items itemsExisting = itemsRepository.findById(id).orElse(null);
-        if (itemsExisting != null)
-            itemsRepository.delete(items);
+        if (itemsExisting != null) {
+            touchLists(itemsExisting.getLists());
+            countRemoved(itemsExisting);
+            itemsRepository.delete(itemsExisting);
+            titleSearchIndex.removeItems(id);
+        }
 
         else throw new ExceptionMessage("Item não encontrado para ser deletado!");
     }
 
+    public DeleteReportDto deleteAll(List<Long> ids) {
+        List<Long> distinct = ids.stream().filter(Objects::nonNull).distinct().toList();
+        long deleted = 0;
+        for (int from = 0; from < distinct.size(); from += deleteChunkSize)
+            deleted += deleteChunk(distinct.subList(from, Math.min(distinct.size(), from + deleteChunkSize)));
+        return DeleteReportDto.builder().deleted(deleted).build();
+    }
+
+    public DeleteReportDto deleteByFilters(Priority priority, LocalDateTime creationDate, LocalDateTime finishDate, String title) throws ExceptionMessage {
+        if (!FiltersSpecification.hasAny(priority, creationDate, finishDate, title))
+            throw new ExceptionMessage("Informe ao menos um filtro para a exclusão em massa!");
+        Specification<Items> specification = FiltersSpecification.of(priority, creationDate, finishDate, title, titleSearchIndex.searchItems(title).orElse(null));
+        long deleted = 0;
+        List<Long> ids = projectionRepository.findIds(Items.class, specification, null, deleteChunkSize);
+        while (!ids.isEmpty()) {
+            deleted += deleteChunk(ids);
+            ids = projectionRepository.findIds(Items.class, specification, ids.get(ids.size() - 1), deleteChunkSize);
+        }
+        return DeleteReportDto.builder().deleted(deleted).build();
+    }
+
+
+    private CursorPageDto<Items> findByCursor(Specification<Items> specification, String after, Pageable pageable) throws ExceptionMessage {
+        Sort sort = Cursor.sort(pageable.getSort());
+        KeysetScrollPosition position = Cursor.decode(after);
+        Window<Items> window = itemsRepository.findBy(specification,
+                query -> query.sortBy(sort).limit(pageable.getPageSize()).scroll(position));
+        return Cursor.toPage(window);
+    }
+
+    private int deleteChunk(List<Long> ids) {
+        Integer deleted = new TransactionTemplate(transactionManager).execute(status -> {
+            List<PriorityTotalView> totals = itemsRepository.countByIdIn(ids);
+            int rows = itemsRepository.deleteByIdIn(ids);
+            Set<Long> listIds = new HashSet<>();
+            totals.forEach(view -> {
+                listIds.add(view.getListId());
+                priorityCountService.add(view.getListId(), view.getPriority(), -view.getTotal());
+            });
+            if (!listIds.isEmpty())
+                listsRepository.incrementVersions(listIds);
+            evict(CacheConfig.LISTS, listIds);
+            evict(CacheConfig.ITEMS, ids);
+            ids.forEach(titleSearchIndex::removeItems);
+            return rows;
+        });
+        return deleted != null ? deleted : 0;
+    }
+
+    private void evict(String cacheName, Collection<Long> ids) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null)
+            ids.forEach(cache::evict);
+    }
+
+    private void touchLists(Lists lists) {
+        if (lists == null)
+            return;
+        listsRepository.incrementVersion(lists.getId());
+        Cache cache = cacheManager.getCache(CacheConfig.LISTS);
+        if (cache != null)
+            cache.evict(lists.getId());
+    }
+
+    private void countRemoved(Items items) {
+        if (items.getLists() != null)
+            priorityCountService.add(items.getLists().getId(), items.getPriority(), -1);
+    }
 
     private Items itemsDtoToItems(ItemsDto itemsDto) {
         return Items.builder()
@@ -1,21 +1,46 @@
 package br.com.company.taskManagement.service;
 
+import br.com.company.taskManagement.config.CacheConfig;
+import br.com.company.taskManagement.dto.CursorPageDto;
+import br.com.company.taskManagement.dto.DeleteReportDto;
 import br.com.company.taskManagement.dto.ItemsDto;
 import br.com.company.taskManagement.dto.ListsDto;
 import br.com.company.taskManagement.entity.Items;
 import br.com.company.taskManagement.entity.Lists;
 import br.com.company.taskManagement.enums.Priority;
 import br.com.company.taskManagement.exception.ExceptionMessage;
+import br.com.company.taskManagement.exception.VersionConflictException;
+import br.com.company.taskManagement.pagination.Cursor;
+import br.com.company.taskManagement.repository.ItemsRepository;
 import br.com.company.taskManagement.repository.ListsRepository;
+import br.com.company.taskManagement.repository.ProjectionRepository;
+import br.com.company.taskManagement.repository.projection.Fields;
+import br.com.company.taskManagement.repository.specification.FiltersSpecification;
+import br.com.company.taskManagement.search.TitleSearchIndex;
 import br.com.company.taskManagement.validations.TitleSizeValidation;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 @Service
 public class ListsService {
@@ -23,18 +48,78 @@ public class ListsService {
     @Autowired
     ListsRepository listsRepository;
 
+    @Autowired
+    ItemsRepository itemsRepository;
+
+    @Autowired
+    ProjectionRepository projectionRepository;
+
+    @Autowired
+    TitleSearchIndex titleSearchIndex;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @Autowired
+    PriorityCountService priorityCountService;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Value("${bulk-delete.lists-chunk-size:100}")
+    int deleteChunkSize;
+
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.LISTS, key = "#id")
     public Lists findById(Long id) throws ExceptionMessage {
-        return listsRepository.findById(id).orElseThrow(() -> new ExceptionMessage("Lista não encontrada!"));
+        Lists lists = listsRepository.findById(id).orElseThrow(() -> new ExceptionMessage("Lista não encontrada!"));
+        Hibernate.initialize(lists.getItems());
+        return lists;
     }
 
+    public Optional<Long> findVersionById(Long id) {
+        return listsRepository.findVersionById(id);
+    }
+
+    @Transactional(readOnly = true)
     public Page<Lists> findAll(Pageable pageable) {
-        return listsRepository.findAll(pageable);
+        return initializeItems(listsRepository.findAll(pageable));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> findFields(Set<String> fields, Pageable pageable) throws ExceptionMessage {
+        Set<String> columns = new LinkedHashSet<>(fields);
+        boolean withItems = columns.remove(Fields.ITEMS);
+        Page<Map<String, Object>> page = projectionRepository.findAll(Lists.class, Specification.where(null), columns, pageable);
+        if (withItems && page.hasContent()) {
+            List<Long> ids = page.stream().map(row -> (Long) row.get(Fields.ID)).toList();
+            Map<Long, List<Items>> items = new HashMap<>();
+            itemsRepository.findByListsIdIn(ids).forEach(itm -> items.computeIfAbsent(itm.getLists().getId(), id -> new ArrayList<>()).add(itm));
+            page.forEach(row -> row.put(Fields.ITEMS, items.getOrDefault((Long) row.get(Fields.ID), List.of())));
+        }
+        return page;
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDto<Lists> findAll(String after, Pageable pageable) throws ExceptionMessage {
+        return findByCursor(Specification.where(null), after, pageable);
     }
 
+    @Transactional(readOnly = true)
     public Page<Lists> findByFilters(Priority priority, LocalDateTime creationDate, LocalDateTime finishDate, String title, Pageable pageable) {
-        return listsRepository.findByFilters(priority,creationDate, finishDate, title, pageable);
+        return initializeItems(listsRepository.findAll(FiltersSpecification.of(priority, creationDate, finishDate, title, titleSearchIndex.searchLists(title).orElse(null)), pageable));
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageDto<Lists> findByFilters(Priority priority, LocalDateTime creationDate, LocalDateTime finishDate, String title,
+                                              String after, Pageable pageable) throws ExceptionMessage {
+        return findByCursor(FiltersSpecification.of(priority, creationDate, finishDate, title, titleSearchIndex.searchLists(title).orElse(null)), after, pageable);
+    }
+
+    @Transactional
     public Lists createLists(ListsDto listsDto) throws ExceptionMessage {
         Lists lists;
         if (TitleSizeValidation.isMinTitleSize(listsDto.getTitle()) && TitleSizeValidation.isMaxTitleSize(listsDto.getTitle())) {
@@ -42,39 +127,130 @@ public class ListsService {
         } else {
             throw new ExceptionMessage("O título deve ser maior ou igual à 6 caracteres e até 20 caracteres");
         }
-        return listsRepository.save(lists);
+        Lists saved = listsRepository.save(lists);
+        priorityCountService.create(saved.getId(), saved.getItems());
+        titleSearchIndex.putLists(saved);
+        return saved;
     }
 
-    public Lists putLists(Long id, ListsDto listsDto) throws ExceptionMessage {
+    @Transactional(rollbackFor = ExceptionMessage.class)
+    @CacheEvict(cacheNames = CacheConfig.LISTS, key = "#id")
+    public Lists putLists(Long id, ListsDto listsDto, Long version) throws ExceptionMessage {
+        if (!TitleSizeValidation.isMinTitleSize(listsDto.getTitle()) || !TitleSizeValidation.isMaxTitleSize(listsDto.getTitle()))
+            throw new ExceptionMessage("O título deve ser maior ou igual à 6 caracteres e até 20 caracteres");
         Lists existingLists = listsRepository.findById(id).orElseThrow(() -> new ExceptionMessage("Lista não encontrada!"));
-        if (TitleSizeValidation.isMinTitleSize(listsDto.getTitle()) && TitleSizeValidation.isMaxTitleSize(listsDto.getTitle())) {
-            existingLists.setTitle(listsDto.getTitle());
-        } else {
-           throw new ExceptionMessage("O título deve ser maior ou igual à 6 caracteres e até 20 caracteres");
-        }
+        if (version != null && !version.equals(existingLists.getVersion()))
+            throw new VersionConflictException(existingLists.getVersion());
+        entityManager.lock(existingLists, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+        evictItems(existingLists.getItems());
+        existingLists.setTitle(listsDto.getTitle());
         existingLists.setDescription(listsDto.getDescription());
         existingLists.setCreationDate(listsDto.getCreationDate());
         existingLists.setFinishDate(listsDto.getFinishDate());
-        existingLists.setItems(itemsDtoListToItemsList(listsDto.getItemsDto()));
+        Map<Priority, Long> before = PriorityCountService.countOf(existingLists.getItems());
+        mergeItems(existingLists, listsDto.getItemsDto());
+        priorityCountService.apply(id, before, PriorityCountService.countOf(existingLists.getItems()));
         existingLists.setPriority(listsDto.getPriority());
 
-        return listsRepository.save(existingLists);
+        Lists saved = listsRepository.save(existingLists);
+        titleSearchIndex.putLists(saved);
+        return saved;
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.LISTS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.ITEMS, allEntries = true)
+    })
+    @Transactional
     public void deleteById(Long id) {
         listsRepository.deleteById(id);
+        priorityCountService.remove(id);
+        titleSearchIndex.removeLists(id);
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.LISTS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.ITEMS, allEntries = true)
+    })
+    @Transactional
     public void delete(Long id, Lists lists) throws ExceptionMessage {
         Lists list = listsRepository.findById(id).orElse(null);
-        if (list != null)
-            listsRepository.delete(lists);
+        if (list != null) {
+            listsRepository.delete(list);
+            priorityCountService.remove(id);
+            titleSearchIndex.removeLists(id);
+        }
 
         else throw new ExceptionMessage("Lista não encontrada para ser deletada!");
     }
 
+    public DeleteReportDto deleteAll(List<Long> ids) {
+        List<Long> distinct = ids.stream().filter(Objects::nonNull).distinct().toList();
+        DeleteReportDto report = DeleteReportDto.builder().deleted(0).itemsDeleted(0L).build();
+        for (int from = 0; from < distinct.size(); from += deleteChunkSize)
+            deleteChunk(distinct.subList(from, Math.min(distinct.size(), from + deleteChunkSize)), report);
+        return report;
+    }
+
+    public DeleteReportDto deleteByFilters(Priority priority, LocalDateTime creationDate, LocalDateTime finishDate, String title) throws ExceptionMessage {
+        if (!FiltersSpecification.hasAny(priority, creationDate, finishDate, title))
+            throw new ExceptionMessage("Informe ao menos um filtro para a exclusão em massa!");
+        Specification<Lists> specification = FiltersSpecification.of(priority, creationDate, finishDate, title, titleSearchIndex.searchLists(title).orElse(null));
+        DeleteReportDto report = DeleteReportDto.builder().deleted(0).itemsDeleted(0L).build();
+        List<Long> ids = projectionRepository.findIds(Lists.class, specification, null, deleteChunkSize);
+        while (!ids.isEmpty()) {
+            deleteChunk(ids, report);
+            ids = projectionRepository.findIds(Lists.class, specification, ids.get(ids.size() - 1), deleteChunkSize);
+        }
+        return report;
+    }
+
+    private void deleteChunk(List<Long> ids, DeleteReportDto report) {
+        DeleteReportDto chunk = new TransactionTemplate(transactionManager).execute(status -> {
+            List<Long> itemsIds = itemsRepository.findIdsByListIdIn(ids);
+            long itemsDeleted = itemsRepository.deleteByListIdIn(ids);
+            long deleted = listsRepository.deleteByIdIn(ids);
+            priorityCountService.remove(ids);
+            evict(CacheConfig.LISTS, ids);
+            evict(CacheConfig.ITEMS, itemsIds);
+            ids.forEach(titleSearchIndex::removeLists);
+            itemsIds.forEach(titleSearchIndex::removeItems);
+            return DeleteReportDto.builder().deleted(deleted).itemsDeleted(itemsDeleted).build();
+        });
+        if (chunk == null)
+            return;
+        report.setDeleted(report.getDeleted() + chunk.getDeleted());
+        report.setItemsDeleted(report.getItemsDeleted() + chunk.getItemsDeleted());
+    }
+
+    private void evict(String cacheName, Collection<Long> ids) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null)
+            ids.forEach(cache::evict);
+    }
+
+    private CursorPageDto<Lists> findByCursor(Specification<Lists> specification, String after, Pageable pageable) throws ExceptionMessage {
+        Sort sort = Cursor.sort(pageable.getSort());
+        KeysetScrollPosition position = Cursor.decode(after);
+        Window<Lists> window = listsRepository.findBy(specification,
+                query -> query.sortBy(sort).limit(pageable.getPageSize()).scroll(position));
+        window.forEach(lists -> Hibernate.initialize(lists.getItems()));
+        return Cursor.toPage(window);
+    }
+
+    private Page<Lists> initializeItems(Page<Lists> page) {
+        page.forEach(lists -> Hibernate.initialize(lists.getItems()));
+        return page;
+    }
+
+    private void evictItems(List<Items> items) {
+        Cache cache = cacheManager.getCache(CacheConfig.ITEMS);
+        if (cache != null && items != null)
+            items.forEach(itm -> cache.evict(itm.getId()));
+    }
+
     private Lists listsDtoToLists(ListsDto listsDto) {
-        return Lists.builder()
+        Lists lists = Lists.builder()
                 .title(listsDto.getTitle())
                 .description(listsDto.getDescription())
                 .items(itemsDtoListToItemsList(listsDto.getItemsDto()))
@@ -82,20 +258,54 @@ public class ListsService {
                 .finishDate(listsDto.getFinishDate() != null ? listsDto.getFinishDate() : null)
                 .priority(listsDto.getPriority() != null ? listsDto.getPriority() : Priority.NORMAL)
                 .build();
+        lists.getItems().forEach(items -> items.setLists(lists));
+        return lists;
     }
 
     private List<Items> itemsDtoListToItemsList(List<ItemsDto> itemsDto) {
         List<Items> itemsList = new ArrayList<>();
-        itemsDto.forEach(items -> {
-            Items itm = Items.builder()
-                    .title(items.getTitle())
-                    .description(items.getDescription())
-                    .creationDate(items.getCreationDate() != null ? items.getCreationDate() : LocalDateTime.now())
-                    .priority(items.getPriority() != null ? items.getPriority() : Priority.NORMAL)
-                    .build();
-            itemsList.add(itm);
-        });
+        itemsDto.forEach(items -> itemsList.add(itemsDtoToItems(items)));
         return itemsList;
     }
 
+    private Items itemsDtoToItems(ItemsDto itemsDto) {
+        return Items.builder()
+                .title(itemsDto.getTitle())
+                .description(itemsDto.getDescription())
+                .creationDate(itemsDto.getCreationDate() != null ? itemsDto.getCreationDate() : LocalDateTime.now())
+                .priority(itemsDto.getPriority() != null ? itemsDto.getPriority() : Priority.NORMAL)
+                .build();
+    }
+
+    private void mergeItems(Lists lists, List<ItemsDto> itemsDto) {
+        Map<Long, ItemsDto> incoming = new HashMap<>();
+        itemsDto.stream().filter(items -> items.getId() != null).forEach(items -> incoming.put(items.getId(), items));
+
+        lists.getItems().removeIf(items -> !incoming.containsKey(items.getId()));
+
+        Map<Long, Items> existing = new HashMap<>();
+        lists.getItems().forEach(items -> existing.put(items.getId(), items));
+
+        itemsDto.forEach(dto -> {
+            Items items = dto.getId() != null ? existing.get(dto.getId()) : null;
+            if (items != null) {
+                updateItems(items, dto);
+            } else {
+                Items newItems = itemsDtoToItems(dto);
+                newItems.setLists(lists);
+                lists.getItems().add(newItems);
+            }
+        });
+    }
+
+    private void updateItems(Items items, ItemsDto itemsDto) {
+        items.setTitle(itemsDto.getTitle());
+        items.setDescription(itemsDto.getDescription());
+        if (itemsDto.getCreationDate() != null)
+            items.setCreationDate(itemsDto.getCreationDate());
+        items.setFinishDate(itemsDto.getFinishDate());
+        if (itemsDto.getPriority() != null)
+            items.setPriority(itemsDto.getPriority());
+    }
+
 }
@@ -0,0 +1,174 @@
+package br.com.company.taskManagement.service;
+
+import br.com.company.taskManagement.entity.Items;
+import br.com.company.taskManagement.entity.PriorityCount;
+import br.com.company.taskManagement.entity.PriorityCountId;
+import br.com.company.taskManagement.enums.Priority;
+import br.com.company.taskManagement.exception.ExceptionMessage;
+import br.com.company.taskManagement.repository.ItemsRepository;
+import br.com.company.taskManagement.repository.ListsRepository;
+import br.com.company.taskManagement.repository.PriorityCountRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+@Slf4j
+@Service
+public class PriorityCountService {
+
+    @Autowired
+    PriorityCountRepository priorityCountRepository;
+
+    @Autowired
+    ItemsRepository itemsRepository;
+
+    @Autowired
+    ListsRepository listsRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public Map<Priority, Long> findByListId(Long id) throws ExceptionMessage {
+        List<PriorityCount> counts = priorityCountRepository.findByListId(id);
+        Map<Priority, Long> totals = empty();
+        if (counts.isEmpty()) {
+            if (!listsRepository.existsById(id))
+                throw new ExceptionMessage("Lista não encontrada!");
+            itemsRepository.countByPriority(id).forEach(view -> totals.put(view.getPriority(), view.getTotal()));
+            return totals;
+        }
+        counts.forEach(count -> totals.put(count.getId().getPriority(), count.getTotal()));
+        return totals;
+    }
+
+    /**
+     * Grava uma linha por prioridade, inclusive as zeradas, para que {@link #add} só precise de UPDATE.
+     */
+    @Transactional
+    public void create(Long listId, Collection<Items> items) {
+        Map<Priority, Long> totals = countOf(items);
+        totals.forEach((priority, total) -> entityManager.persist(new PriorityCount(new PriorityCountId(listId, priority), total)));
+    }
+
+    @Transactional
+    public void add(Long listId, Priority priority, long delta) {
+        if (listId == null || priority == null || delta == 0)
+            return;
+        if (priorityCountRepository.add(listId, priority, delta) == 0)
+            log.warn("Contador {} da lista {} não encontrado, será criado na próxima reconciliação", priority, listId);
+    }
+
+    @Transactional
+    public void add(Long listId, Map<Priority, Long> deltas) {
+        deltas.forEach((priority, delta) -> add(listId, priority, delta));
+    }
+
+    @Transactional
+    public void move(Long listId, Priority from, Priority to) {
+        if (from == to)
+            return;
+        add(listId, from, -1);
+        add(listId, to, 1);
+    }
+
+    @Transactional
+    public void apply(Long listId, Map<Priority, Long> before, Map<Priority, Long> after) {
+        for (Priority priority : Priority.values())
+            add(listId, priority, after.get(priority) - before.get(priority));
+    }
+
+    @Transactional
+    public void remove(Long listId) {
+        priorityCountRepository.deleteByListId(listId);
+    }
+
+    @Transactional
+    public void remove(Collection<Long> listIds) {
+        priorityCountRepository.deleteByListIdIn(listIds);
+    }
+
+    /**
+     * Listas criadas antes dos contadores não têm linhas; a reconciliação na subida cria as que faltam.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        reconcile();
+    }
+
+    @Scheduled(cron = "${counters.reconcile.cron:0 0 3 * * *}")
+    public int reconcile() {
+        Map<Long, Map<Priority, Long>> actual = new HashMap<>();
+        itemsRepository.countByListAndPriority().forEach(view -> totalsOf(actual, view.getListId()).put(view.getPriority(), view.getTotal()));
+        Map<Long, Map<Priority, Long>> stored = new HashMap<>();
+        priorityCountRepository.findAll().forEach(count -> totalsOf(stored, count.getId().getListId()).put(count.getId().getPriority(), count.getTotal()));
+
+        Set<Long> listIds = new HashSet<>(actual.keySet());
+        listIds.addAll(stored.keySet());
+        int repaired = 0;
+        for (Long listId : listIds) {
+            if (!totalsOf(actual, listId).equals(totalsOf(stored, listId)) && reconcile(listId))
+                repaired++;
+        }
+        if (repaired > 0)
+            log.warn("Contadores por prioridade corrigidos em {} listas", repaired);
+        return repaired;
+    }
+
+    private boolean reconcile(Long listId) {
+        Boolean repaired = new TransactionTemplate(transactionManager).execute(status -> {
+            Map<Priority, PriorityCount> counts = new EnumMap<>(Priority.class);
+            priorityCountRepository.findLockedByListId(listId).forEach(count -> counts.put(count.getId().getPriority(), count));
+            Map<Priority, Long> totals = empty();
+            itemsRepository.countByPriority(listId).forEach(view -> totals.put(view.getPriority(), view.getTotal()));
+            if (totals.values().stream().allMatch(total -> total == 0) && !listsRepository.existsById(listId)) {
+                priorityCountRepository.deleteAll(counts.values());
+                return !counts.isEmpty();
+            }
+            boolean changed = false;
+            for (Priority priority : Priority.values()) {
+                PriorityCount count = counts.get(priority);
+                if (count == null) {
+                    entityManager.persist(new PriorityCount(new PriorityCountId(listId, priority), totals.get(priority)));
+                    changed = true;
+                } else if (!count.getTotal().equals(totals.get(priority))) {
+                    count.setTotal(totals.get(priority));
+                    changed = true;
+                }
+            }
+            return changed;
+        });
+        return Boolean.TRUE.equals(repaired);
+    }
+
+    static Map<Priority, Long> countOf(Collection<Items> items) {
+        Map<Priority, Long> totals = empty();
+        if (items != null)
+            items.stream().filter(itm -> itm.getPriority() != null).forEach(itm -> totals.merge(itm.getPriority(), 1L, Long::sum));
+        return totals;
+    }
+
+    private static Map<Priority, Long> empty() {
+        Map<Priority, Long> totals = new EnumMap<>(Priority.class);
+        for (Priority priority : Priority.values())
+            totals.put(priority, 0L);
+        return totals;
+    }
+
+    private static Map<Priority, Long> totalsOf(Map<Long, Map<Priority, Long>> totals, Long listId) {
+        return totals.computeIfAbsent(listId, id -> empty());
+    }
+
+}
@@ -0,0 +1,50 @@
+package br.com.company.taskManagement.service;
+
+import br.com.company.taskManagement.dto.CursorPageDto;
+import br.com.company.taskManagement.entity.Items;
+import br.com.company.taskManagement.enums.Priority;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.Callable;
+
+@Service
+public class ReactiveItemsService {
+
+    @Autowired
+    ItemsService itemsService;
+
+    @Autowired
+    Scheduler jdbcScheduler;
+
+    public Mono<Page<Items>> findAll(Pageable pageable) {
+        return read(() -> itemsService.findAll(pageable));
+    }
+
+    public Mono<CursorPageDto<Items>> findAll(String after, Pageable pageable) {
+        return read(() -> itemsService.findAll(after, pageable));
+    }
+
+    public Mono<Page<Items>> findAllByLists(Long id, Pageable pageable) {
+        return read(() -> itemsService.findAllByLists(id, pageable));
+    }
+
+    public Mono<Page<Items>> findByFilters(Priority priority, LocalDateTime creationDate, LocalDateTime finishDate, String title, Pageable pageable) {
+        return read(() -> itemsService.findByFilters(priority, creationDate, finishDate, title, pageable));
+    }
+
+    public Mono<CursorPageDto<Items>> findByFilters(Priority priority, LocalDateTime creationDate, LocalDateTime finishDate, String title,
+                                                    String after, Pageable pageable) {
+        return read(() -> itemsService.findByFilters(priority, creationDate, finishDate, title, after, pageable));
+    }
+
+    private <T> Mono<T> read(Callable<T> callable) {
+        return Mono.fromCallable(callable).subscribeOn(jdbcScheduler);
+    }
+
+}
@@ -0,0 +1,39 @@
+package br.com.company.taskManagement.service;
+
+import br.com.company.taskManagement.dto.CursorPageDto;
+import br.com.company.taskManagement.entity.Lists;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.concurrent.Callable;
+
+@Service
+public class ReactiveListsService {
+
+    @Autowired
+    ListsService listsService;
+
+    @Autowired
+    Scheduler jdbcScheduler;
+
+    public Mono<Lists> findById(Long id) {
+        return read(() -> listsService.findById(id));
+    }
+
+    public Mono<Page<Lists>> findAll(Pageable pageable) {
+        return read(() -> listsService.findAll(pageable));
+    }
+
+    public Mono<CursorPageDto<Lists>> findAll(String after, Pageable pageable) {
+        return read(() -> listsService.findAll(after, pageable));
+    }
+
+    private <T> Mono<T> read(Callable<T> callable) {
+        return Mono.fromCallable(callable).subscribeOn(jdbcScheduler);
+    }
+
+}
@@ -0,0 +1,138 @@
+package br.com.company.taskManagement.admission;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdmissionInterceptorTest {
+
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    AdmissionInterceptor interceptor = new AdmissionInterceptor(registry, "X-Client-Id", Set.of("127.0.0.1"), 2, 0.001, 1, 0.001, 1, 0, 100);
+
+    private MockHttpServletRequest request(String method, String client) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/items/filters");
+        request.addHeader("X-Client-Id", client);
+        return request;
+    }
+
+    private MockHttpServletResponse handle(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        if (interceptor.preHandle(request, response, null))
+            interceptor.afterCompletion(request, response, null, null);
+        return response;
+    }
+
+    private double rejected(String reason, String route) {
+        return registry.counter(AdmissionInterceptor.REJECTED_METRIC, "reason", reason, "route", route).count();
+    }
+
+
+    @Test
+    void shouldReturnTooManyRequestsWhenClientExceedsReadBudget() throws Exception {
+        assertEquals(200, handle(request("GET", "client-a")).getStatus());
+        assertEquals(200, handle(request("GET", "client-a")).getStatus());
+
+        MockHttpServletResponse response = handle(request("GET", "client-a"));
+
+        assertEquals(429, response.getStatus());
+        assertNotNull(response.getHeader("Retry-After"));
+        assertEquals("Limite de requisições excedido! Tente novamente em instantes.", response.getContentAsString());
+        assertEquals(1, rejected("rate_limit", "read"));
+    }
+
+    @Test
+    void shouldKeepSeparateBudgetsWhenClientsAndRoutesDiffer() throws Exception {
+        assertEquals(200, handle(request("POST", "client-a")).getStatus());
+        assertEquals(429, handle(request("POST", "client-a")).getStatus());
+
+        assertEquals(200, handle(request("GET", "client-a")).getStatus());
+        assertEquals(200, handle(request("POST", "client-b")).getStatus());
+        assertEquals(1, rejected("rate_limit", "write"));
+    }
+
+    @Test
+    void shouldUseRemoteAddressWhenClientHeaderIsMissing() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("DELETE", "/items/1");
+        request.setRemoteAddr("10.0.0.1");
+        assertEquals(200, handle(request).getStatus());
+
+        MockHttpServletRequest other = new MockHttpServletRequest("DELETE", "/items/1");
+        other.setRemoteAddr("10.0.0.1");
+        assertEquals(429, handle(other).getStatus());
+    }
+
+    @Test
+    void shouldIgnoreClientHeaderWhenRequestDoesNotComeFromTrustedProxy() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            MockHttpServletRequest request = request("GET", "rotated-" + i);
+            request.setRemoteAddr("10.0.0.9");
+            assertEquals(200, handle(request).getStatus());
+        }
+
+        MockHttpServletRequest request = request("GET", "rotated-2");
+        request.setRemoteAddr("10.0.0.9");
+
+        assertEquals(429, handle(request).getStatus());
+    }
+
+    @Test
+    void shouldReturnServiceUnavailableWhenConcurrencyLimitIsReached() throws Exception {
+        MockHttpServletRequest inflight = request("GET", "client-a");
+        assertTrue(interceptor.preHandle(inflight, new MockHttpServletResponse(), null));
+
+        MockHttpServletResponse response = handle(request("GET", "client-b"));
+
+        assertEquals(503, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+        assertEquals(1, rejected("concurrency", "read"));
+
+        interceptor.afterCompletion(inflight, new MockHttpServletResponse(), null, null);
+        assertEquals(1, interceptor.availablePermits());
+        assertEquals(200, handle(request("GET", "client-b")).getStatus());
+    }
+
+    @Test
+    void shouldReportInflightRequestsWhenPermitIsHeld() throws Exception {
+        MockHttpServletRequest inflight = request("GET", "client-a");
+        assertTrue(interceptor.preHandle(inflight, new MockHttpServletResponse(), null));
+
+        assertEquals(1, registry.get("admission.inflight").gauge().value());
+
+        interceptor.afterCompletion(inflight, new MockHttpServletResponse(), null, null);
+        assertEquals(0, registry.get("admission.inflight").gauge().value());
+    }
+
+    @Test
+    void shouldReleasePermitWhenHandlerStartsAsyncProcessing() throws Exception {
+        MockHttpServletRequest request = request("GET", "client-a");
+        assertTrue(interceptor.preHandle(request, new MockHttpServletResponse(), null));
+        assertEquals(0, interceptor.availablePermits());
+
+        interceptor.afterConcurrentHandlingStarted(request, new MockHttpServletResponse(), null);
+        assertEquals(1, interceptor.availablePermits());
+
+        request.setDispatcherType(DispatcherType.ASYNC);
+        assertTrue(interceptor.preHandle(request, new MockHttpServletResponse(), null));
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), null, null);
+
+        assertEquals(1, interceptor.availablePermits());
+    }
+
+    @Test
+    void shouldRefillTokensWhenTimePasses() {
+        long now = 0;
+        TokenBucket bucket = new TokenBucket(1, 10, now);
+
+        assertEquals(0, bucket.tryConsume(now));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), bucket.tryConsume(now));
+        assertEquals(0, bucket.tryConsume(now + TimeUnit.MILLISECONDS.toNanos(100)));
+    }
+
+}
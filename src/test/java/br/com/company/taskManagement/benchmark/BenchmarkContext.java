@@ -0,0 +1,28 @@
+package br.com.company.taskManagement.benchmark;
+
+import br.com.company.taskManagement.TaskManagementApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+class BenchmarkContext {
+
+    static ConfigurableApplicationContext start(String name) {
+        return new SpringApplicationBuilder(TaskManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:" + name + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_ON_EXIT=FALSE",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.generate_statistics=false",
+                        "statements.count.enabled=false",
+                        "counters.reconcile.cron=-",
+                        "logging.level.root=WARN")
+                .run();
+    }
+
+}
@@ -0,0 +1,82 @@
+package br.com.company.taskManagement.benchmark;
+
+import br.com.company.taskManagement.dto.ItemsDto;
+import br.com.company.taskManagement.dto.ListsDto;
+import br.com.company.taskManagement.entity.Lists;
+import br.com.company.taskManagement.enums.Priority;
+import br.com.company.taskManagement.exception.ExceptionMessage;
+import br.com.company.taskManagement.service.ListsService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MappingBenchmark {
+
+    @Param({"10", "1000"})
+    int size;
+
+    ConfigurableApplicationContext context;
+    ListsService listsService;
+    ListsDto listsDto;
+    ListsDto putDto;
+    Long listId;
+    List<Long> created = new ArrayList<>();
+
+    @Setup
+    public void setUp() throws ExceptionMessage {
+        context = BenchmarkContext.start("mapping");
+        listsService = context.getBean(ListsService.class);
+        List<ItemsDto> itemsDto = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+            itemsDto.add(ItemsDto.builder()
+                    .title("Title Test " + i)
+                    .description("Description Test " + i)
+                    .creationDate(i % 2 == 0 ? LocalDateTime.of(2024, 1, 1, 10, 0) : null)
+                    .priority(i % 3 == 0 ? Priority.URGENTE : null)
+                    .build());
+        listsDto = ListsDto.builder().title("Title Test").itemsDto(itemsDto).build();
+
+        Lists lists = listsService.createLists(listsDto);
+        listId = lists.getId();
+        List<ItemsDto> putItems = new ArrayList<>(size);
+        lists.getItems().forEach(items -> putItems.add(ItemsDto.builder()
+                .id(items.getId())
+                .title(items.getTitle())
+                .description(items.getDescription())
+                .creationDate(items.getCreationDate())
+                .priority(items.getPriority())
+                .build()));
+        putDto = ListsDto.builder().title("Title Test").itemsDto(putItems).build();
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteCreated() {
+        listsService.deleteAll(created);
+        created.clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Lists createLists() throws ExceptionMessage {
+        Lists lists = listsService.createLists(listsDto);
+        created.add(lists.getId());
+        return lists;
+    }
+
+    @Benchmark
+    public Lists putLists() throws ExceptionMessage {
+        return listsService.putLists(listId, putDto, null);
+    }
+
+}
@@ -0,0 +1,79 @@
+package br.com.company.taskManagement.benchmark;
+
+import br.com.company.taskManagement.dto.CursorPageDto;
+import br.com.company.taskManagement.dto.ItemsDto;
+import br.com.company.taskManagement.dto.ListsDto;
+import br.com.company.taskManagement.entity.Items;
+import br.com.company.taskManagement.exception.ExceptionMessage;
+import br.com.company.taskManagement.service.ItemsService;
+import br.com.company.taskManagement.service.ListsService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PagingBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1000", "100000"})
+    int listSize;
+
+    ConfigurableApplicationContext context;
+    ItemsService itemsService;
+    Long listId;
+    int lastPage;
+    String lastCursor;
+
+    @Setup
+    public void setUp() throws ExceptionMessage {
+        context = BenchmarkContext.start("paging");
+        itemsService = context.getBean(ItemsService.class);
+        listId = context.getBean(ListsService.class)
+                .createLists(ListsDto.builder().title("Title Test").itemsDto(new ArrayList<>()).build())
+                .getId();
+        List<ItemsDto> batch = new ArrayList<>();
+        for (int i = 0; i < listSize; i++) {
+            batch.add(ItemsDto.builder().title("Title Test " + (i % 1000)).description("Some Description").build());
+            if (batch.size() == 1000 || i == listSize - 1) {
+                itemsService.createItemsBatch(listId, batch);
+                batch = new ArrayList<>();
+            }
+        }
+        lastPage = listSize / PAGE_SIZE - 1;
+        lastCursor = itemsService.findAll(null, PageRequest.of(0, lastPage * PAGE_SIZE)).getNext();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<Items> offsetFirstPage() throws ExceptionMessage {
+        return itemsService.findAllByLists(listId, PageRequest.of(0, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public Page<Items> offsetLastPage() throws ExceptionMessage {
+        return itemsService.findAllByLists(listId, PageRequest.of(lastPage, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public CursorPageDto<Items> cursorFirstPage() throws ExceptionMessage {
+        return itemsService.findAll(null, PageRequest.of(0, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public CursorPageDto<Items> cursorLastPage() throws ExceptionMessage {
+        return itemsService.findAll(lastCursor, PageRequest.of(0, PAGE_SIZE));
+    }
+
+}
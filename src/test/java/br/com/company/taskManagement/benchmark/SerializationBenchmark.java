@@ -0,0 +1,104 @@
+package br.com.company.taskManagement.benchmark;
+
+import br.com.company.taskManagement.dto.PageDto;
+import br.com.company.taskManagement.entity.Items;
+import br.com.company.taskManagement.entity.Lists;
+import br.com.company.taskManagement.enums.Priority;
+import br.com.company.taskManagement.pagination.Offset;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SerializationBenchmark {
+
+    @Param({"0", "10", "100"})
+    int itemsPerLists;
+
+    ObjectMapper objectMapper;
+    Page<Lists> page;
+    PageDto<Lists> leanPage;
+    Page<Items> itemsPage;
+    PageDto<Items> leanItemsPage;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        List<Lists> content = new ArrayList<>(20);
+        for (long i = 0; i < 20; i++) {
+            Lists lists = Lists.builder()
+                    .id(i)
+                    .title("Title Test " + i)
+                    .description("Description Test " + i)
+                    .creationDate(LocalDateTime.of(2024, 1, 1, 10, 0))
+                    .priority(Priority.NORMAL)
+                    .items(new ArrayList<>())
+                    .build();
+            for (long j = 0; j < itemsPerLists; j++)
+                lists.getItems().add(Items.builder()
+                        .id(i * 1000 + j)
+                        .title("Title Test " + j)
+                        .creationDate(LocalDateTime.of(2024, 1, 1, 10, 0))
+                        .priority(Priority.URGENTE)
+                        .lists(lists)
+                        .build());
+            content.add(lists);
+        }
+        page = new PageImpl<>(content, PageRequest.of(0, 20), 1000);
+        leanPage = Offset.toPage(page);
+        List<Items> items = new ArrayList<>(10);
+        for (long i = 0; i < 10; i++)
+            items.add(Items.builder()
+                    .id(i)
+                    .title("Title Test " + i)
+                    .description("Description Test " + i)
+                    .creationDate(LocalDateTime.of(2024, 1, 1, 10, 0))
+                    .priority(Priority.NORMAL)
+                    .version(0L)
+                    .build());
+        itemsPage = new PageImpl<>(items, PageRequest.of(0, 10), 100000);
+        leanItemsPage = Offset.toPage(itemsPage);
+        try {
+            System.out.printf("%nbytes: pageOfLists=%d leanPageOfLists=%d pageOfItems=%d leanPageOfItems=%d%n",
+                    objectMapper.writeValueAsBytes(page).length, objectMapper.writeValueAsBytes(leanPage).length,
+                    objectMapper.writeValueAsBytes(itemsPage).length, objectMapper.writeValueAsBytes(leanItemsPage).length);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @Benchmark
+    public byte[] writePageOfLists() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] writeLeanPageOfLists() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(leanPage);
+    }
+
+    @Benchmark
+    public byte[] writePageOfItems() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(itemsPage);
+    }
+
+    @Benchmark
+    public byte[] writeLeanPageOfItems() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(leanItemsPage);
+    }
+
+}
@@ -0,0 +1,93 @@
+package br.com.company.taskManagement.benchmark;
+
+import br.com.company.taskManagement.search.TrigramIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TitleSearchBenchmark {
+
+    private static final int MAX_CANDIDATES = 1000;
+
+    @Param({"10000", "200000"})
+    int size;
+
+    @Param({"tarefa 4242", "relatorio"})
+    String query;
+
+    TrigramIndex index;
+    Connection connection;
+
+    @Setup
+    public void setUp() throws SQLException {
+        String[] words = {"tarefa", "relatorio", "compras", "reuniao", "projeto", "revisao"};
+        Random random = new Random(42);
+        index = new TrigramIndex();
+        connection = DriverManager.getConnection("jdbc:h2:mem:titles;MODE=MySQL;DATABASE_TO_LOWER=TRUE", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS items");
+            statement.execute("CREATE TABLE items (id BIGINT PRIMARY KEY, title VARCHAR(255), description VARCHAR(255))");
+        }
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO items (id, title, description) VALUES (?, ?, ?)")) {
+            for (long id = 1; id <= size; id++) {
+                String title = words[random.nextInt(words.length)] + " " + random.nextInt(10000);
+                index.put(id, title);
+                insert.setLong(1, id);
+                insert.setString(2, title);
+                insert.setString(3, "Some Description");
+                insert.addBatch();
+                if (id % 1000 == 0)
+                    insert.executeBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE items");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public List<Long> likeQuery() throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement("SELECT id FROM items WHERE title LIKE ?")) {
+            select.setString(1, "%" + query + "%");
+            return ids(select);
+        }
+    }
+
+    @Benchmark
+    public List<Long> trigramIndexThenLike() throws SQLException {
+        Optional<Set<Long>> candidates = index.search(query, MAX_CANDIDATES);
+        if (candidates.isEmpty())
+            return likeQuery();
+        if (candidates.get().isEmpty())
+            return Collections.emptyList();
+        String placeholders = String.join(",", Collections.nCopies(candidates.get().size(), "?"));
+        try (PreparedStatement select = connection.prepareStatement("SELECT id FROM items WHERE id IN (" + placeholders + ") AND title LIKE ?")) {
+            int parameter = 1;
+            for (Long id : candidates.get())
+                select.setLong(parameter++, id);
+            select.setString(parameter, "%" + query + "%");
+            return ids(select);
+        }
+    }
+
+    private static List<Long> ids(PreparedStatement select) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (ResultSet rs = select.executeQuery()) {
+            while (rs.next())
+                ids.add(rs.getLong(1));
+        }
+        return ids;
+    }
+
+}
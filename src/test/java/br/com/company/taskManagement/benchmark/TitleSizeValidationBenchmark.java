@@ -0,0 +1,23 @@
+package br.com.company.taskManagement.benchmark;
+
+import br.com.company.taskManagement.validations.TitleSizeValidation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TitleSizeValidationBenchmark {
+
+    String[] titles = {"Title", "Title Test", "Title Test With Twenty", "Título Ação", "T"};
+    int index;
+
+    @Benchmark
+    public boolean validateTitle() {
+        index = (index + 1) % titles.length;
+        String title = titles[index];
+        return TitleSizeValidation.isMinTitleSize(title) && TitleSizeValidation.isMaxTitleSize(title);
+    }
+
+}
@@ -0,0 +1,45 @@
+package br.com.company.taskManagement.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsTest {
+
+    @Autowired
+    MockMvc mvc;
+
+
+    @Test
+    void shouldExposeEndpointRepositoryHibernateAndPoolMetricsWhenScrapePrometheus() throws Exception {
+        mvc.perform(post("/lists/createLists")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Title Test\",\"itemsDto\":[{\"title\":\"Title Test\"}]}"))
+                .andExpect(status().isCreated());
+        mvc.perform(get("/lists/all")).andExpect(status().isOk());
+
+        String body = mvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertTrue(body.contains("http_server_requests_seconds_bucket{") && body.contains("uri=\"/lists/all\""));
+        assertTrue(body.contains("spring_data_repository_invocations_seconds_bucket{") && body.contains("repository=\"ListsRepository\""));
+        assertTrue(body.contains("hibernate_request_statements_bucket{"));
+        assertTrue(body.contains("hibernate_entities_loads"));
+        assertTrue(body.contains("hibernate_collections_fetches"));
+        assertTrue(body.contains("hikaricp_connections_active"));
+    }
+
+}
@@ -0,0 +1,116 @@
+package br.com.company.taskManagement.controller;
+
+import br.com.company.taskManagement.entity.Items;
+import br.com.company.taskManagement.entity.Lists;
+import br.com.company.taskManagement.enums.Priority;
+import br.com.company.taskManagement.repository.ListsRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ConditionalGetTest {
+
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    ListsRepository listsRepository;
+
+    Lists lists;
+
+
+    @BeforeEach
+    void setUp() {
+        Lists newLists = Lists.builder()
+                .title("Title Test")
+                .creationDate(LocalDateTime.now())
+                .priority(Priority.NORMAL)
+                .items(new ArrayList<>())
+                .build();
+        newLists.getItems().add(Items.builder().title("Title Item").priority(Priority.NORMAL).lists(newLists).build());
+        lists = listsRepository.save(newLists);
+    }
+
+    @AfterEach
+    void tearDown() {
+        listsRepository.deleteAll();
+    }
+
+    private String eTagOf(String path) throws Exception {
+        return mvc.perform(get(path))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+    }
+
+
+    @Test
+    void shouldReturnNotModifiedWhenListsVersionIsUnchanged() throws Exception {
+        String eTag = eTagOf("/lists/" + lists.getId());
+
+        mvc.perform(get("/lists/" + lists.getId()).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void shouldChangeListsETagWhenItemsIsCreated() throws Exception {
+        String eTag = eTagOf("/lists/" + lists.getId());
+
+        mvc.perform(post("/items/createItems/" + lists.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Title New Item\"}"))
+                .andExpect(status().isCreated());
+
+        mvc.perform(get("/lists/" + lists.getId()).header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2));
+    }
+
+    @Test
+    void shouldChangeListsETagWhenItemsIsUpdated() throws Exception {
+        Long itemsId = lists.getItems().get(0).getId();
+        String listsETag = eTagOf("/lists/" + lists.getId());
+        String itemsETag = eTagOf("/items/" + itemsId);
+
+        mvc.perform(put("/items/putItems/" + itemsId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Title Changed\",\"priority\":\"URGENTE\"}"))
+                .andExpect(status().isOk());
+
+        assertNotEquals(itemsETag, eTagOf("/items/" + itemsId));
+        mvc.perform(get("/lists/" + lists.getId()).header("If-None-Match", listsETag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].title").value("Title Changed"));
+    }
+
+    @Test
+    void shouldChangeListsETagWhenListsIsPut() throws Exception {
+        String eTag = eTagOf("/lists/" + lists.getId());
+
+        mvc.perform(put("/lists/putLists/" + lists.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Title Test\",\"priority\":\"NORMAL\",\"itemsDto\":[{\"id\":"
+                                + lists.getItems().get(0).getId() + ",\"title\":\"Title Item\",\"priority\":\"URGENTE\"}]}"))
+                .andExpect(status().isOk());
+
+        mvc.perform(get("/lists/" + lists.getId()).header("If-None-Match", eTag))
+                .andExpect(status().isOk());
+    }
+
+}
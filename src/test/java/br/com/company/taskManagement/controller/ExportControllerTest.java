@@ -0,0 +1,74 @@
+package br.com.company.taskManagement.controller;
+
+import br.com.company.taskManagement.enums.ExportFormat;
+import br.com.company.taskManagement.service.ExportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ExportController.class)
+class ExportControllerTest {
+
+    @MockBean
+    ExportService exportService;
+
+    @Autowired
+    MockMvc mvc;
+
+
+    @Test
+    void shouldStreamNdjsonWhenExportItems() throws Exception {
+        doAnswer(invocation -> {
+            invocation.getArgument(1, OutputStream.class).write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(exportService).exportItems(eq(ExportFormat.NDJSON), any(OutputStream.class));
+
+        MvcResult result = mvc.perform(get("/export/items"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=items.ndjson"))
+                .andExpect(content().string("{\"id\":1}\n"));
+    }
+
+    @Test
+    void shouldStreamCsvWhenExportLists() throws Exception {
+        doAnswer(invocation -> {
+            invocation.getArgument(1, OutputStream.class).write("id,title\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(exportService).exportLists(eq(ExportFormat.CSV), any(OutputStream.class));
+
+        MvcResult result = mvc.perform(get("/export/lists").param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(content().string("id,title\n"));
+    }
+
+    @Test
+    void shouldReturnStatusBadRequestWhenExportFormatIsUnknown() throws Exception {
+        mvc.perform(get("/export/items").param("format", "XML"))
+                .andExpect(status().isBadRequest());
+    }
+
+}
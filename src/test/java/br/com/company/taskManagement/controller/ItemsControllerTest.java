@@ -1,28 +1,52 @@
 package br.com.company.taskManagement.controller;
 
+import br.com.company.taskManagement.dto.BulkDeleteDto;
+import br.com.company.taskManagement.dto.CursorPageDto;
+import br.com.company.taskManagement.dto.DeleteReportDto;
+import br.com.company.taskManagement.dto.ImportErrorDto;
+import br.com.company.taskManagement.dto.ImportReportDto;
+import br.com.company.taskManagement.dto.IngestionStatusDto;
 import br.com.company.taskManagement.dto.ItemsDto;
 import br.com.company.taskManagement.entity.Items;
+import br.com.company.taskManagement.enums.IngestionStatus;
 import br.com.company.taskManagement.enums.Priority;
 import br.com.company.taskManagement.exception.ExceptionMessage;
+import br.com.company.taskManagement.exception.QueueFullException;
+import br.com.company.taskManagement.exception.VersionConflictException;
+import br.com.company.taskManagement.pagination.Offset;
+import br.com.company.taskManagement.service.ConcurrencyRetry;
+import br.com.company.taskManagement.service.ImportService;
+import br.com.company.taskManagement.service.ItemsIngestionService;
 import br.com.company.taskManagement.service.ItemsService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.doThrow;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -30,11 +54,18 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(ItemsController.class)
+@Import(ConcurrencyRetry.class)
 class ItemsControllerTest {
 
     @MockBean
     ItemsService itemsService;
 
+    @MockBean
+    ImportService importService;
+
+    @MockBean
+    ItemsIngestionService itemsIngestionService;
+
     @Autowired
     MockMvc mvc;
 
@@ -84,7 +115,9 @@ class ItemsControllerTest {
                         .param("size", "10")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(content().json(objectMapper.writeValueAsString(mockPage)));
+                .andExpect(content().json(objectMapper.writeValueAsString(Offset.toPage(mockPage))))
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.pageable").doesNotExist());
     }
 
     @Test
@@ -104,6 +137,113 @@ class ItemsControllerTest {
                 .andExpect(jsonPath("$.content[0].title").value(items.getTitle()));
     }
 
+    @Test
+    void shouldReturnStatusOkWhenFindAllWithCursor() throws Exception {
+        Items items = buildItemsMock();
+        CursorPageDto<Items> cursorPage = new CursorPageDto<>(Collections.singletonList(items), 1, "bmV4dA");
+
+        when(itemsService.findAll(anyString(), any(Pageable.class))).thenReturn(cursorPage);
+
+        mvc.perform(MockMvcRequestBuilders.get("/items/all")
+                        .param("after", "")
+                        .param("size", "10")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(items.getId()))
+                .andExpect(jsonPath("$.next").value("bmV4dA"))
+                .andExpect(jsonPath("$.total").doesNotExist());
+    }
+
+    @Test
+    void shouldReturnStatusBadRequestWhenFindAllWithInvalidCursor() throws Exception {
+        when(itemsService.findAll(anyString(), any(Pageable.class))).thenThrow(new ExceptionMessage("Cursor inválido!"));
+
+        mvc.perform(MockMvcRequestBuilders.get("/items/all")
+                        .param("after", "invalid")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Cursor inválido!"));
+    }
+
+    @Test
+    void shouldReturnDeletedCountWhenDeleteAllByIds() throws Exception {
+        when(itemsService.deleteAll(List.of(1L, 2L))).thenReturn(DeleteReportDto.builder().deleted(2).build());
+
+        mvc.perform(delete("/items/deleteAll")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BulkDeleteDto(List.of(1L, 2L)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(2))
+                .andExpect(jsonPath("$.itemsDeleted").doesNotExist());
+    }
+
+    @Test
+    void shouldReturnDeletedCountWhenDeleteAllByFilters() throws Exception {
+        when(itemsService.deleteByFilters(Priority.URGENTE, null, null, null)).thenReturn(DeleteReportDto.builder().deleted(3).build());
+
+        mvc.perform(delete("/items/deleteAll")
+                        .param("priority", "URGENTE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(3));
+    }
+
+    @Test
+    void shouldReturnStatusBadRequestWhenDeleteAllWithIdsAndFilters() throws Exception {
+        mvc.perform(delete("/items/deleteAll")
+                        .param("priority", "URGENTE")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BulkDeleteDto(List.of(1L)))))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Informe os ids ou os filtros para a exclusão em massa, não ambos!"));
+
+        verify(itemsService, never()).deleteAll(anyList());
+    }
+
+    @Test
+    void shouldReturnOnlyRequestedFieldsWhenFindAllWithFields() throws Exception {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", 1L);
+        row.put("title", "Title Test");
+        Page<Map<String, Object>> mockPage = new PageImpl<>(Collections.singletonList(row), PageRequest.of(0, 10), 1);
+
+        when(itemsService.findFields(eq(Set.of("id", "title")), any(Pageable.class))).thenReturn(mockPage);
+
+        mvc.perform(MockMvcRequestBuilders.get("/items/all")
+                        .param("fields", "title")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.content[0].title").value("Title Test"))
+                .andExpect(jsonPath("$.content[0].description").doesNotExist())
+                .andExpect(jsonPath("$.total").value(1));
+    }
+
+    @Test
+    void shouldReturnStatusBadRequestWhenFindAllWithFieldsAndCursor() throws Exception {
+        mvc.perform(MockMvcRequestBuilders.get("/items/all")
+                        .param("fields", "title")
+                        .param("after", "")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("O parâmetro fields não é suportado na paginação por cursor!"));
+    }
+
+    @Test
+    void shouldReturnStatusOkWhenFindByFiltersWithCursor() throws Exception {
+        Items items = buildItemsMock();
+        CursorPageDto<Items> cursorPage = new CursorPageDto<>(Collections.singletonList(items), 1, null);
+
+        when(itemsService.findByFilters(any(), any(), any(), any(), anyString(), any(Pageable.class))).thenReturn(cursorPage);
+
+        mvc.perform(MockMvcRequestBuilders.get("/items/filters")
+                        .param("priority", Priority.NORMAL.toString())
+                        .param("after", "")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(items.getId()))
+                .andExpect(jsonPath("$.next").doesNotExist());
+    }
+
     @Test
     void shouldReturnStatusOkWhenFindByFilters() throws Exception {
         Items items = buildItemsMock();
@@ -127,7 +267,9 @@ class ItemsControllerTest {
                         .param("size", "10")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(content().json(objectMapper.writeValueAsString(mockPage)));
+                .andExpect(content().json(objectMapper.writeValueAsString(Offset.toPage(mockPage))))
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.pageable").doesNotExist());
     }
 
     @Test
@@ -171,12 +313,84 @@ class ItemsControllerTest {
                 .andExpect(content().string("Exception"));
     }
 
+    @Test
+    void shouldReturnStatusAcceptedWhenCreateItemsAsync() throws Exception {
+        IngestionStatusDto status = IngestionStatusDto.builder().trackingId("abc").listId(1L).status(IngestionStatus.PENDENTE).build();
+
+        when(itemsIngestionService.enqueue(anyLong(), any(ItemsDto.class))).thenReturn(status);
+
+        mvc.perform(post("/items/createItems/1?async=true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(buildItemsDtoMock())))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/items/ingestion/abc"))
+                .andExpect(jsonPath("$.status").value("PENDENTE"));
+        verify(itemsService, never()).createItems(anyLong(), any(ItemsDto.class));
+    }
+
+    @Test
+    void shouldReturnStatusServiceUnavailableWhenIngestionQueueIsFull() throws Exception {
+        when(itemsIngestionService.enqueue(anyLong(), any(ItemsDto.class))).thenThrow(new QueueFullException());
+
+        mvc.perform(post("/items/createItems/1?async=true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(buildItemsDtoMock())))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+
+    @Test
+    void shouldReturnStatusWhenFindIngestionStatus() throws Exception {
+        IngestionStatusDto status = IngestionStatusDto.builder().trackingId("abc").listId(1L).status(IngestionStatus.CONCLUIDO).itemsId(2L).build();
+
+        when(itemsIngestionService.findStatus("abc")).thenReturn(status);
+
+        mvc.perform(get("/items/ingestion/abc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CONCLUIDO"))
+                .andExpect(jsonPath("$.itemsId").value(2));
+    }
+
+    @Test
+    void shouldReturnStatusBadRequestWhenFindUnknownIngestionStatus() throws Exception {
+        when(itemsIngestionService.findStatus("abc")).thenThrow(new ExceptionMessage("Rastreamento não encontrado!"));
+
+        mvc.perform(get("/items/ingestion/abc"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldReturnStatusOkWhenImportItems() throws Exception {
+        ImportReportDto report = ImportReportDto.builder().imported(2).failed(1)
+                .errors(Collections.singletonList(new ImportErrorDto(2, "Invalid data"))).build();
+
+        when(importService.importItems(anyLong(), any(InputStream.class))).thenReturn(report);
+
+        mvc.perform(post("/items/import/1")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"title\":\"Title Test\"}\n{\"title\":\"T\"}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.errors[0].line").value(2));
+    }
+
+    @Test
+    void shouldReturnStatusBadRequestWhenImportItems() throws Exception {
+        when(importService.importItems(anyLong(), any(InputStream.class))).thenThrow(new ExceptionMessage("Lista não encontrada!"));
+
+        mvc.perform(post("/items/import/1")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"title\":\"Title Test\"}\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Lista não encontrada!"));
+    }
+
     @Test
     void shouldReturnStatusOkWhenPutLists() throws Exception {
         ItemsDto itemsDto = buildItemsDtoMock();
         Items items = buildItemsMock();
 
-        when(itemsService.putItems(anyLong(), any(ItemsDto.class))).thenReturn(items);
+        when(itemsService.putItems(anyLong(), any(ItemsDto.class), isNull())).thenReturn(items);
 
         mvc.perform(put("/items/putItems/1")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -185,12 +399,63 @@ class ItemsControllerTest {
                 .andExpect(content().json(objectMapper.writeValueAsString(items)));
     }
 
+    @Test
+    void shouldPassIfMatchVersionWhenPutItems() throws Exception {
+        ItemsDto itemsDto = buildItemsDtoMock();
+        Items items = buildItemsMock();
+
+        when(itemsService.putItems(anyLong(), any(ItemsDto.class), eq(3L))).thenReturn(items);
+
+        mvc.perform(put("/items/putItems/1")
+                        .header("If-Match", "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(itemsDto)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldReturnStatusConflictWhenPutItemsWithStaleVersion() throws Exception {
+        ItemsDto itemsDto = buildItemsDtoMock();
+
+        when(itemsService.putItems(anyLong(), any(ItemsDto.class), eq(3L))).thenThrow(new VersionConflictException(4L));
+
+        mvc.perform(put("/items/putItems/1")
+                        .header("If-Match", "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(itemsDto)))
+                .andExpect(status().isConflict())
+                .andExpect(header().string("ETag", "\"4\""));
+    }
+
+    @Test
+    void shouldReturnStatusConflictWhenPutItemsLosesOptimisticLock() throws Exception {
+        ItemsDto itemsDto = buildItemsDtoMock();
+
+        when(itemsService.putItems(anyLong(), any(ItemsDto.class), isNull())).thenThrow(new ObjectOptimisticLockingFailureException(Items.class, 1L));
+        when(itemsService.findVersionById(1L)).thenReturn(Optional.of(5L));
+
+        mvc.perform(put("/items/putItems/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(itemsDto)))
+                .andExpect(status().isConflict())
+                .andExpect(header().string("ETag", "\"5\""));
+    }
+
+    @Test
+    void shouldReturnStatusBadRequestWhenIfMatchIsInvalid() throws Exception {
+        mvc.perform(put("/items/putItems/1")
+                        .header("If-Match", "abc")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(buildItemsDtoMock())))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void shouldReturnExceptionMessageWhenPutLists() throws Exception {
         ItemsDto itemsDto = buildItemsDtoMock();
         itemsDto.setTitle("Titl");
 
-        when(itemsService.putItems(anyLong(), any(ItemsDto.class))).thenThrow(new ExceptionMessage("ExceptionMessage"));
+        when(itemsService.putItems(anyLong(), any(ItemsDto.class), isNull())).thenThrow(new ExceptionMessage("ExceptionMessage"));
 
         mvc.perform(put("/items/putItems/1")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -203,7 +468,7 @@ class ItemsControllerTest {
     void shouldReturnStatusInternalServerErrorWhenPutLists() throws Exception {
         ItemsDto itemsDto = buildItemsDtoMock();
 
-        when(itemsService.putItems(anyLong(), any(ItemsDto.class))).thenThrow(new RuntimeException("Exception"));
+        when(itemsService.putItems(anyLong(), any(ItemsDto.class), isNull())).thenThrow(new RuntimeException("Exception"));
 
         mvc.perform(put("/items/putItems/1")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -1,12 +1,18 @@
 package br.com.company.taskManagement.controller;
 
+import br.com.company.taskManagement.dto.BulkDeleteDto;
+import br.com.company.taskManagement.dto.CursorPageDto;
+import br.com.company.taskManagement.dto.DeleteReportDto;
 import br.com.company.taskManagement.dto.ItemsDto;
 import br.com.company.taskManagement.dto.ListsDto;
 import br.com.company.taskManagement.entity.Items;
 import br.com.company.taskManagement.entity.Lists;
 import br.com.company.taskManagement.enums.Priority;
 import br.com.company.taskManagement.exception.ExceptionMessage;
+import br.com.company.taskManagement.exception.VersionConflictException;
+import br.com.company.taskManagement.pagination.Offset;
 import br.com.company.taskManagement.service.ListsService;
+import br.com.company.taskManagement.service.PriorityCountService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -24,12 +30,22 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(ListsController.class)
@@ -38,6 +54,9 @@ class ListsControllerTest {
     @MockBean
     ListsService listsService;
 
+    @MockBean
+    PriorityCountService priorityCountService;
+
     @Autowired
     MockMvc mvc;
 
@@ -96,7 +115,116 @@ class ListsControllerTest {
                         .param("size", "10")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(content().json(objectMapper.writeValueAsString(mockPage)));
+                .andExpect(content().json(objectMapper.writeValueAsString(Offset.toPage(mockPage))))
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.pageable").doesNotExist());
+    }
+
+    @Test
+    void shouldReturnStatusOkWhenFindAllWithCursor() throws Exception {
+        Lists lists = buildListsMock();
+        CursorPageDto<Lists> cursorPage = new CursorPageDto<>(Collections.singletonList(lists), 1, "bmV4dA");
+
+        when(listsService.findAll(anyString(), any(Pageable.class))).thenReturn(cursorPage);
+
+        mvc.perform(MockMvcRequestBuilders.get("/lists/all")
+                        .param("after", "")
+                        .param("size", "10")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(lists.getId()))
+                .andExpect(jsonPath("$.next").value("bmV4dA"))
+                .andExpect(jsonPath("$.total").doesNotExist());
+    }
+
+    @Test
+    void shouldReturnStatusBadRequestWhenFindAllWithInvalidCursor() throws Exception {
+        when(listsService.findAll(anyString(), any(Pageable.class))).thenThrow(new ExceptionMessage("Cursor inválido!"));
+
+        mvc.perform(MockMvcRequestBuilders.get("/lists/all")
+                        .param("after", "invalid")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Cursor inválido!"));
+    }
+
+    @Test
+    void shouldReturnDeletedCountWhenDeleteAllByIds() throws Exception {
+        when(listsService.deleteAll(List.of(1L, 2L))).thenReturn(DeleteReportDto.builder().deleted(2).itemsDeleted(4L).build());
+
+        mvc.perform(delete("/lists/deleteAll")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BulkDeleteDto(List.of(1L, 2L)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(2))
+                .andExpect(jsonPath("$.itemsDeleted").value(4));
+    }
+
+    @Test
+    void shouldReturnDeletedCountWhenDeleteAllByFilters() throws Exception {
+        when(listsService.deleteByFilters(Priority.URGENTE, null, null, null)).thenReturn(DeleteReportDto.builder().deleted(3).itemsDeleted(4L).build());
+
+        mvc.perform(delete("/lists/deleteAll")
+                        .param("priority", "URGENTE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(3));
+    }
+
+    @Test
+    void shouldReturnStatusBadRequestWhenDeleteAllWithIdsAndFilters() throws Exception {
+        mvc.perform(delete("/lists/deleteAll")
+                        .param("priority", "URGENTE")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BulkDeleteDto(List.of(1L)))))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Informe os ids ou os filtros para a exclusão em massa, não ambos!"));
+
+        verify(listsService, never()).deleteAll(anyList());
+    }
+
+    @Test
+    void shouldReturnOnlyRequestedFieldsWhenFindAllWithFields() throws Exception {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", 1L);
+        row.put("title", "Title Test");
+        Page<Map<String, Object>> mockPage = new PageImpl<>(Collections.singletonList(row), PageRequest.of(0, 10), 1);
+
+        when(listsService.findFields(eq(Set.of("id", "title")), any(Pageable.class))).thenReturn(mockPage);
+
+        mvc.perform(MockMvcRequestBuilders.get("/lists/all")
+                        .param("fields", "title")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.content[0].title").value("Title Test"))
+                .andExpect(jsonPath("$.content[0].description").doesNotExist())
+                .andExpect(jsonPath("$.total").value(1));
+    }
+
+    @Test
+    void shouldReturnStatusBadRequestWhenFindAllWithFieldsAndCursor() throws Exception {
+        mvc.perform(MockMvcRequestBuilders.get("/lists/all")
+                        .param("fields", "title")
+                        .param("after", "")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("O parâmetro fields não é suportado na paginação por cursor!"));
+    }
+
+    @Test
+    void shouldReturnStatusOkWhenFindByFiltersWithCursor() throws Exception {
+        Lists lists = buildListsMock();
+        CursorPageDto<Lists> cursorPage = new CursorPageDto<>(Collections.singletonList(lists), 1, null);
+
+        when(listsService.findByFilters(any(), any(), any(), any(), anyString(), any(Pageable.class))).thenReturn(cursorPage);
+
+        mvc.perform(MockMvcRequestBuilders.get("/lists/filters")
+                        .param("priority", Priority.NORMAL.toString())
+                        .param("after", "")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(lists.getId()))
+                .andExpect(jsonPath("$.next").doesNotExist());
     }
 
     @Test
@@ -122,7 +250,9 @@ class ListsControllerTest {
                         .param("size", "10")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(content().json(objectMapper.writeValueAsString(mockPage)));
+                .andExpect(content().json(objectMapper.writeValueAsString(Offset.toPage(mockPage))))
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.pageable").doesNotExist());
     }
 
     @Test
@@ -171,7 +301,7 @@ class ListsControllerTest {
         ListsDto listsDto = buildListsDtoMock();
         Lists lists = buildListsMock();
 
-        when(listsService.putLists(anyLong(), any(ListsDto.class))).thenReturn(lists);
+        when(listsService.putLists(anyLong(), any(ListsDto.class), isNull())).thenReturn(lists);
 
         mvc.perform(put("/lists/putLists/1")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -185,7 +315,7 @@ class ListsControllerTest {
         ListsDto listsDto = buildListsDtoMock();
         listsDto.setTitle("Titl");
 
-        when(listsService.putLists(anyLong(), any(ListsDto.class))).thenThrow(new ExceptionMessage("ExceptionMessage"));
+        when(listsService.putLists(anyLong(), any(ListsDto.class), isNull())).thenThrow(new ExceptionMessage("ExceptionMessage"));
 
         mvc.perform(put("/lists/putLists/1")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -198,7 +328,7 @@ class ListsControllerTest {
     void shouldReturnStatusInternalServerErrorWhenPutLists() throws Exception {
         ListsDto listsDto = buildListsDtoMock();
 
-        when(listsService.putLists(anyLong(), any(ListsDto.class))).thenThrow(new RuntimeException("Exception"));
+        when(listsService.putLists(anyLong(), any(ListsDto.class), isNull())).thenThrow(new RuntimeException("Exception"));
 
         mvc.perform(put("/lists/putLists/1")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -207,6 +337,43 @@ class ListsControllerTest {
                 .andExpect(content().string("Exception"));
     }
 
+    @Test
+    void shouldReturnStatusConflictWhenPutListsWithStaleVersion() throws Exception {
+        ListsDto listsDto = buildListsDtoMock();
+
+        when(listsService.putLists(anyLong(), any(ListsDto.class), eq(1L))).thenThrow(new VersionConflictException(2L));
+
+        mvc.perform(put("/lists/putLists/1")
+                        .header("If-Match", "W/\"1\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(listsDto)))
+                .andExpect(status().isConflict())
+                .andExpect(header().string("ETag", "\"2\""))
+                .andExpect(content().string("Conflito de versão! A versão atual é 2"));
+    }
+
+    @Test
+    void shouldReturnCountsWhenCountByPriority() throws Exception {
+        Map<Priority, Long> counts = new EnumMap<>(Priority.class);
+        counts.put(Priority.URGENTE, 2L);
+        counts.put(Priority.NORMAL, 5L);
+
+        when(priorityCountService.findByListId(1L)).thenReturn(counts);
+
+        mvc.perform(get("/lists/1/counts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.URGENTE").value(2))
+                .andExpect(jsonPath("$.NORMAL").value(5));
+    }
+
+    @Test
+    void shouldReturnStatusBadRequestWhenCountByPriorityOfMissingLists() throws Exception {
+        when(priorityCountService.findByListId(1L)).thenThrow(new ExceptionMessage("Lista não encontrada!"));
+
+        mvc.perform(get("/lists/1/counts"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void shouldReturnStatusNoContentWhenDeleteById() throws Exception {
         doNothing().when(listsService).deleteById(anyLong());
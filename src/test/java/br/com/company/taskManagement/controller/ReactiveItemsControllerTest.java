@@ -0,0 +1,100 @@
+package br.com.company.taskManagement.controller;
+
+import br.com.company.taskManagement.dto.CursorPageDto;
+import br.com.company.taskManagement.entity.Items;
+import br.com.company.taskManagement.enums.Priority;
+import br.com.company.taskManagement.exception.ExceptionMessage;
+import br.com.company.taskManagement.service.ReactiveItemsService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ReactiveItemsController.class)
+class ReactiveItemsControllerTest {
+
+    @MockBean
+    ReactiveItemsService reactiveItemsService;
+
+    @Autowired
+    MockMvc mvc;
+
+    private Items buildItemsMock() {
+        return Items.builder().id(1L).title("Title Test").priority(Priority.NORMAL).build();
+    }
+
+
+    @Test
+    void shouldReturnPageWhenFindAllByLists() throws Exception {
+        when(reactiveItemsService.findAllByLists(eq(1L), any(Pageable.class)))
+                .thenReturn(Mono.just(new PageImpl<>(Collections.singletonList(buildItemsMock()), PageRequest.of(0, 10), 1)));
+
+        MvcResult result = mvc.perform(get("/reactive/items/listItems/1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("Title Test"))
+                .andExpect(jsonPath("$.total").value(1));
+    }
+
+    @Test
+    void shouldReturnCursorPageWhenFindByFiltersWithAfter() throws Exception {
+        when(reactiveItemsService.findByFilters(eq(Priority.NORMAL), isNull(), isNull(), isNull(), eq(""), any(Pageable.class)))
+                .thenReturn(Mono.just(new CursorPageDto<>(Collections.singletonList(buildItemsMock()), 1, "next")));
+
+        MvcResult result = mvc.perform(get("/reactive/items/filters").param("priority", "NORMAL").param("after", ""))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.next").value("next"));
+    }
+
+    @Test
+    void shouldReturnStatusBadRequestWhenCursorIsInvalid() throws Exception {
+        when(reactiveItemsService.findAll(eq("invalid"), any(Pageable.class)))
+                .thenReturn(Mono.error(new ExceptionMessage("Cursor inválido!")));
+
+        MvcResult result = mvc.perform(get("/reactive/items/all").param("after", "invalid"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Cursor inválido!"));
+    }
+
+    @Test
+    void shouldReturnStatusServiceUnavailableWhenJdbcSchedulerIsSaturated() throws Exception {
+        when(reactiveItemsService.findAllByLists(eq(1L), any(Pageable.class)))
+                .thenReturn(Mono.error(new RejectedExecutionException()));
+
+        MvcResult result = mvc.perform(get("/reactive/items/listItems/1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+
+}
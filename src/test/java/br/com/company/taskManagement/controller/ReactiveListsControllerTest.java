@@ -0,0 +1,88 @@
+package br.com.company.taskManagement.controller;
+
+import br.com.company.taskManagement.entity.Items;
+import br.com.company.taskManagement.entity.Lists;
+import br.com.company.taskManagement.enums.Priority;
+import br.com.company.taskManagement.repository.ListsRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ReactiveListsControllerTest {
+
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    ListsRepository listsRepository;
+
+    Lists lists;
+
+
+    @BeforeEach
+    void setUp() {
+        Lists newLists = Lists.builder()
+                .title("Title Test")
+                .creationDate(LocalDateTime.now())
+                .priority(Priority.NORMAL)
+                .items(new ArrayList<>())
+                .build();
+        newLists.getItems().add(Items.builder().title("Title Item").priority(Priority.URGENTE).lists(newLists).build());
+        lists = listsRepository.save(newLists);
+    }
+
+    @AfterEach
+    void tearDown() {
+        listsRepository.deleteAll();
+    }
+
+
+    @Test
+    void shouldSerializeLazyItemsWhenFindAllOffTheRequestThread() throws Exception {
+        MvcResult result = mvc.perform(get("/reactive/lists/all"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("Title Test"))
+                .andExpect(jsonPath("$.content[0].items[0].title").value("Title Item"));
+    }
+
+    @Test
+    void shouldReturnListsWhenFindById() throws Exception {
+        MvcResult result = mvc.perform(get("/reactive/lists/" + lists.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].priority").value("URGENTE"));
+    }
+
+    @Test
+    void shouldReturnStatusBadRequestWhenListsIsNotFound() throws Exception {
+        MvcResult result = mvc.perform(get("/reactive/lists/-1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Lista não encontrada!"));
+    }
+
+}
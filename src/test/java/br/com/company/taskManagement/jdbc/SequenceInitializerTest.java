@@ -0,0 +1,58 @@
+package br.com.company.taskManagement.jdbc;
+
+import br.com.company.taskManagement.entity.Items;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SequenceInitializerTest {
+
+    SequenceInitializer initializer = new SequenceInitializer();
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:sequences;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", ""));
+
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS items");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS items_seq");
+        jdbcTemplate.execute("CREATE TABLE items (id BIGINT PRIMARY KEY)");
+        jdbcTemplate.execute("CREATE TABLE items_seq (next_val BIGINT)");
+        jdbcTemplate.update("INSERT INTO items_seq (next_val) VALUES (1)");
+        initializer.jdbcTemplate = jdbcTemplate;
+    }
+
+    private long nextVal() {
+        return jdbcTemplate.queryForObject("SELECT next_val FROM items_seq", Long.class);
+    }
+
+
+    @Test
+    void shouldMoveSequencePastMaxIdWhenTableHasRows() {
+        jdbcTemplate.update("INSERT INTO items (id) VALUES (1), (2), (1234)");
+
+        initializer.seed("items", Items.class);
+
+        assertEquals(1234 + 500 + 1, nextVal());
+    }
+
+    @Test
+    void shouldKeepSequenceWhenItIsAlreadyAhead() {
+        jdbcTemplate.update("INSERT INTO items (id) VALUES (10)");
+        jdbcTemplate.update("UPDATE items_seq SET next_val = 5000");
+
+        initializer.seed("items", Items.class);
+
+        assertEquals(5000, nextVal());
+    }
+
+    @Test
+    void shouldKeepSequenceWhenTableIsEmpty() {
+        initializer.seed("items", Items.class);
+
+        assertEquals(1, nextVal());
+    }
+
+}
@@ -0,0 +1,46 @@
+package br.com.company.taskManagement.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StatementAssertions {
+
+    public static void assertSelects(long expected) {
+        assertEquals(expected, StatementCounter.current().getSelect(), message());
+    }
+
+    public static void assertSelectsAtMost(long max) {
+        assertTrue(StatementCounter.current().getSelect() <= max, message());
+    }
+
+    public static void assertInserts(long expected) {
+        assertEquals(expected, StatementCounter.current().getInsert(), message());
+    }
+
+    public static void assertInsertsAtMost(long max) {
+        assertTrue(StatementCounter.current().getInsert() <= max, message());
+    }
+
+    public static void assertUpdates(long expected) {
+        assertEquals(expected, StatementCounter.current().getUpdate(), message());
+    }
+
+    public static void assertDeletes(long expected) {
+        assertEquals(expected, StatementCounter.current().getDelete(), message());
+    }
+
+    public static void assertTotalAtMost(long max) {
+        assertTrue(StatementCounter.current().getTotal() <= max, message());
+    }
+
+    public static void assertNoRepeatedSelects() {
+        StatementCount count = StatementCounter.current();
+        assertTrue(count.getMaxRepeatedSelects() <= 1,
+                "Select repeated " + count.getMaxRepeatedSelects() + " times: " + count.getMostRepeatedSelect());
+    }
+
+    private static String message() {
+        return "Statements: " + StatementCounter.current();
+    }
+
+}
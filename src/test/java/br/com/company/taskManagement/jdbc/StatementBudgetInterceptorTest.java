@@ -0,0 +1,59 @@
+package br.com.company.taskManagement.jdbc;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(OutputCaptureExtension.class)
+class StatementBudgetInterceptorTest {
+
+    StatementBudgetInterceptor interceptor = new StatementBudgetInterceptor(3, 2);
+    StatementCounter counter = new StatementCounter();
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/lists/all");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    private void handle(int selects) {
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/lists/all");
+        interceptor.preHandle(request, response, null);
+        for (int i = 0; i < selects; i++)
+            counter.afterQuery(new ExecutionInfo(), Collections.singletonList(new QueryInfo("select * from items where list_id=?")));
+        interceptor.afterCompletion(request, response, null, null);
+    }
+
+
+    @Test
+    void shouldWarnWhenRequestExceedsStatementBudget(CapturedOutput output) {
+        handle(4);
+
+        assertTrue(output.getOut().contains("GET /lists/all executou 4 statements"));
+        assertTrue(output.getOut().contains("N+1: select * from items where list_id=?"));
+        assertEquals(0, StatementCounter.current().getTotal());
+    }
+
+    @Test
+    void shouldNotWarnWhenRequestIsWithinStatementBudget(CapturedOutput output) {
+        handle(2);
+
+        assertFalse(output.getOut().contains("GET /lists/all"));
+    }
+
+    @Test
+    void shouldStopCountingWhenRequestCompletes() {
+        handle(1);
+
+        counter.afterQuery(new ExecutionInfo(), Collections.singletonList(new QueryInfo("select * from lists")));
+
+        assertEquals(0, StatementCounter.current().getTotal());
+    }
+
+}
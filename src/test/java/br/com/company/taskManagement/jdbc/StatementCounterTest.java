@@ -0,0 +1,82 @@
+package br.com.company.taskManagement.jdbc;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatementCounterTest {
+
+    StatementCounter counter = new StatementCounter();
+
+
+    @BeforeEach
+    void setUp() {
+        StatementCounter.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        StatementCounter.clear();
+    }
+
+    private void execute(String query) {
+        List<QueryInfo> queryInfoList = Collections.singletonList(new QueryInfo(query));
+        counter.afterQuery(new ExecutionInfo(), queryInfoList);
+    }
+
+
+    @Test
+    void shouldCountStatementsByTypeWhenAfterQuery() {
+        execute("select * from lists where id=?");
+        execute("insert into items (id) values (?)");
+        execute("update items set title=? where id=?");
+        execute("delete from items where id=?");
+        execute("alter sequence items_seq restart with 1");
+
+        StatementCount count = StatementCounter.current();
+        assertEquals(1, count.getSelect());
+        assertEquals(1, count.getInsert());
+        assertEquals(1, count.getUpdate());
+        assertEquals(1, count.getDelete());
+        assertEquals(1, count.getOther());
+        assertEquals(5, count.getTotal());
+    }
+
+    @Test
+    void shouldReportMostRepeatedSelectWhenSameQueryRunsManyTimes() {
+        for (int i = 0; i < 3; i++)
+            execute("select * from items where list_id=?");
+        execute("select * from lists");
+
+        StatementCount count = StatementCounter.current();
+        assertEquals(3, count.getMaxRepeatedSelects());
+        assertEquals("select * from items where list_id=?", count.getMostRepeatedSelect());
+    }
+
+    @Test
+    void shouldStartFromZeroWhenReset() {
+        execute("select * from lists");
+
+        StatementCounter.reset();
+
+        assertEquals(0, StatementCounter.current().getTotal());
+        assertEquals(0, StatementCounter.current().getMaxRepeatedSelects());
+    }
+
+    @Test
+    void shouldNotCountWhenNoUnitOfWorkIsOpen() {
+        StatementCounter.clear();
+
+        execute("select * from lists");
+
+        assertEquals(0, StatementCounter.current().getTotal());
+    }
+
+}
@@ -0,0 +1,271 @@
+package br.com.company.taskManagement.load;
+
+import br.com.company.taskManagement.enums.Priority;
+import br.com.company.taskManagement.search.TitleSearchIndex;
+import br.com.company.taskManagement.service.PriorityCountService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class LoadTest {
+
+    private static final String[] WORDS = {"Tarefa", "Compras", "Projeto", "Reuniao", "Revisao", "Estudos"};
+    private static final Priority[] PRIORITIES = Priority.values();
+    private static final int LISTS_ALLOCATION_SIZE = 50;
+    private static final int ITEMS_ALLOCATION_SIZE = 500;
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TitleSearchIndex titleSearchIndex;
+
+    @Autowired
+    PriorityCountService priorityCountService;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Value("${load.lists:10000}")
+    int lists;
+
+    @Value("${load.items:1000000}")
+    int items;
+
+    @Value("${load.threads:16}")
+    int threads;
+
+    @Value("${load.duration:60}")
+    int duration;
+
+    @Value("${load.warmup:10}")
+    int warmup;
+
+    @Value("${load.report:target/load-test-report.txt}")
+    String report;
+
+    HttpClient client;
+    Map<String, RouteStats> stats = new ConcurrentHashMap<>();
+    Queue<Long> createdItems = new ConcurrentLinkedQueue<>();
+    Queue<String> createdLists = new ConcurrentLinkedQueue<>();
+
+
+    @Test
+    void shouldServeMixedTrafficWithoutServerErrors() throws Exception {
+        seed();
+        client = HttpClient.newBuilder().executor(Executors.newFixedThreadPool(threads)).build();
+
+        run(warmup);
+        stats.clear();
+        long started = System.nanoTime();
+        run(duration);
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+        send("GET /export/lists", get("/export/lists"));
+        send("GET /export/items", get("/export/items?format=CSV"));
+
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("lists=%d items=%d threads=%d duration=%ds", lists, items, threads, duration));
+        lines.add(RouteStats.header());
+        stats.values().stream().sorted(Comparator.comparing(RouteStats::route))
+                .forEach(routeStats -> lines.add(routeStats.report(seconds)));
+        int total = stats.values().stream().mapToInt(RouteStats::count).sum();
+        lines.add(String.format("total %d requests, %.1f req/s", total, total / seconds));
+        lines.forEach(System.out::println);
+        Files.write(Path.of(report), lines);
+
+        stats.values().forEach(routeStats -> assertEquals(0, routeStats.serverErrors(), routeStats.route()));
+    }
+
+    private void seed() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>();
+        for (long id = 1; id <= lists; id++) {
+            rows.add(new Object[]{id, title("Lista", id), "Descricao " + id, Timestamp.valueOf(now.minusMinutes(id)), PRIORITIES[(int) (id % PRIORITIES.length)].name()});
+            if (rows.size() == 10_000 || id == lists) {
+                jdbcTemplate.batchUpdate("INSERT INTO lists (id, title, description, creation_date, priority) VALUES (?, ?, ?, ?, ?)", rows);
+                rows.clear();
+            }
+        }
+        for (long id = 1; id <= items; id++) {
+            rows.add(new Object[]{id, title("Item", id), "Descricao " + id, Timestamp.valueOf(now.minusSeconds(id)), PRIORITIES[(int) (id % PRIORITIES.length)].name(), id % lists + 1});
+            if (rows.size() == 10_000 || id == items) {
+                jdbcTemplate.batchUpdate("INSERT INTO items (id, title, description, creation_date, priority, list_id) VALUES (?, ?, ?, ?, ?, ?)", rows);
+                rows.clear();
+            }
+        }
+        jdbcTemplate.execute("ALTER SEQUENCE lists_seq RESTART WITH " + (lists + LISTS_ALLOCATION_SIZE));
+        jdbcTemplate.execute("ALTER SEQUENCE items_seq RESTART WITH " + (items + ITEMS_ALLOCATION_SIZE));
+        titleSearchIndex.load();
+        priorityCountService.reconcile();
+    }
+
+    private void run(int seconds) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        for (int i = 0; i < threads; i++)
+            workers.submit(() -> {
+                while (System.nanoTime() < deadline)
+                    next(ThreadLocalRandom.current());
+                return null;
+            });
+        workers.shutdown();
+        assertTrue(workers.awaitTermination(seconds + 120L, TimeUnit.SECONDS));
+    }
+
+    private void next(ThreadLocalRandom random) throws IOException, InterruptedException {
+        long listsId = random.nextLong(1, lists + 1);
+        long itemsId = random.nextLong(1, items + 1);
+        int route = random.nextInt(100);
+        if (route < 10)
+            send("GET /lists/{id}", get("/lists/" + listsId));
+        else if (route < 14)
+            send("GET /lists/all", get("/lists/all?size=20&page=" + random.nextInt(lists / 20 + 1)));
+        else if (route < 16)
+            send("GET /lists/{id}/counts", get("/lists/" + listsId + "/counts"));
+        else if (route < 19)
+            send("GET /lists/all?after", get("/lists/all?size=20&sort=id&after="));
+        else if (route < 24)
+            send("GET /lists/filters", get("/lists/filters?priority=NORMAL&title=" + encode(title("Lista", listsId))));
+        else if (route < 38)
+            send("GET /items/{id}", get("/items/" + itemsId));
+        else if (route < 43)
+            send("GET /items/all", get("/items/all?size=20&page=" + random.nextInt(items / 20 + 1)));
+        else if (route < 46)
+            send("GET /items/all?after", get("/items/all?size=20&sort=id&after="));
+        else if (route < 60)
+            send("GET /items/listItems/{id}", get("/items/listItems/" + listsId + "?size=20"));
+        else if (route < 67)
+            send("GET /items/filters", get("/items/filters?priority=URGENTE&title=" + encode(title("Item", itemsId))));
+        else if (route < 72)
+            createItems(listsId);
+        else if (route < 75)
+            send("POST /items/createItems/{id}?async", json("POST", "/items/createItems/" + listsId + "?async=true", itemsJson(listsId)));
+        else if (route < 80)
+            send("PUT /items/putItems/{id}", json("PUT", "/items/putItems/" + itemsId, itemsJson(itemsId)));
+        else if (route < 84)
+            deleteItems("DELETE /items/delete/{id}", false);
+        else if (route < 86)
+            deleteItems("DELETE /items/deleteItems/{id}", true);
+        else if (route < 90)
+            createLists();
+        else if (route < 93)
+            putLists();
+        else if (route < 95)
+            deleteLists("DELETE /lists/delete/{id}", false);
+        else if (route < 97)
+            deleteLists("DELETE /lists/deleteLists/{id}", true);
+        else
+            send("POST /items/import/{id}", json("POST", "/items/import/" + listsId, importBody(random)));
+    }
+
+    private void createItems(long listsId) throws IOException, InterruptedException {
+        HttpResponse<String> response = send("POST /items/createItems/{id}", json("POST", "/items/createItems/" + listsId, itemsJson(listsId)));
+        if (response.statusCode() == 201)
+            createdItems.add(objectMapper.readTree(response.body()).get("id").asLong());
+    }
+
+    private void deleteItems(String route, boolean withBody) throws IOException, InterruptedException {
+        Long id = createdItems.poll();
+        if (id == null)
+            return;
+        send(route, withBody ? json("DELETE", "/items/deleteItems/" + id, "{\"id\":" + id + "}") : delete("/items/delete/" + id));
+    }
+
+    private void createLists() throws IOException, InterruptedException {
+        String body = "{\"title\":\"Lista Nova\",\"priority\":\"NORMAL\",\"itemsDto\":[" + itemsJson(1) + "," + itemsJson(2) + "]}";
+        HttpResponse<String> response = send("POST /lists/createLists", json("POST", "/lists/createLists", body));
+        if (response.statusCode() == 201)
+            createdLists.add(response.body());
+    }
+
+    private void putLists() throws IOException, InterruptedException {
+        String body = createdLists.poll();
+        if (body == null)
+            return;
+        JsonNode lists = objectMapper.readTree(body);
+        String put = "{\"title\":\"Lista Alterada\",\"priority\":\"URGENTE\",\"itemsDto\":" + lists.get("items") + "}";
+        HttpResponse<String> response = send("PUT /lists/putLists/{id}", json("PUT", "/lists/putLists/" + lists.get("id").asLong(), put));
+        createdLists.add(response.statusCode() == 200 ? response.body() : body);
+    }
+
+    private void deleteLists(String route, boolean withBody) throws IOException, InterruptedException {
+        String body = createdLists.poll();
+        if (body == null)
+            return;
+        long id = objectMapper.readTree(body).get("id").asLong();
+        send(route, withBody ? json("DELETE", "/lists/deleteLists/" + id, body) : delete("/lists/delete/" + id));
+    }
+
+    private HttpResponse<String> send(String route, HttpRequest request) throws IOException, InterruptedException {
+        long started = System.nanoTime();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        stats.computeIfAbsent(route, RouteStats::new).record(System.nanoTime() - started, response.statusCode());
+        return response;
+    }
+
+    private HttpRequest get(String path) {
+        return request(path).GET().build();
+    }
+
+    private HttpRequest delete(String path) {
+        return request(path).DELETE().build();
+    }
+
+    private HttpRequest json(String method, String path, String body) {
+        return request(path).header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body)).build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).timeout(Duration.ofMinutes(5));
+    }
+
+    private String itemsJson(long id) {
+        return "{\"title\":\"" + title("Item", id) + "\",\"description\":\"Descricao\",\"priority\":\"" + PRIORITIES[(int) (id % PRIORITIES.length)] + "\"}";
+    }
+
+    private String importBody(ThreadLocalRandom random) {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 50; i++)
+            body.append(itemsJson(random.nextLong(1, items + 1))).append('\n');
+        return body.toString();
+    }
+
+    private String title(String prefix, long id) {
+        return prefix + " " + WORDS[(int) (id % WORDS.length)] + " " + id;
+    }
+
+    private String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,61 @@
+package br.com.company.taskManagement.load;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+class RouteStats {
+
+    private final String route;
+    private long[] latencies = new long[1024];
+    private int count;
+    private final AtomicLong clientErrors = new AtomicLong();
+    private final AtomicLong serverErrors = new AtomicLong();
+
+    RouteStats(String route) {
+        this.route = route;
+    }
+
+    synchronized void record(long nanos, int status) {
+        if (count == latencies.length)
+            latencies = Arrays.copyOf(latencies, count * 2);
+        latencies[count++] = nanos;
+        if (status >= 500)
+            serverErrors.incrementAndGet();
+        else if (status >= 400)
+            clientErrors.incrementAndGet();
+    }
+
+    String route() {
+        return route;
+    }
+
+    synchronized int count() {
+        return count;
+    }
+
+    long serverErrors() {
+        return serverErrors.get();
+    }
+
+    synchronized String report(double seconds) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return String.format("%-32s %8d %10.1f %10.2f %10.2f %10.2f %8d %8d",
+                route, count, count / seconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                clientErrors.get(), serverErrors.get());
+    }
+
+    static String header() {
+        return String.format("%-32s %8s %10s %10s %10s %10s %8s %8s",
+                "route", "requests", "req/s", "p50 ms", "p99 ms", "p999 ms", "4xx", "5xx");
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0)
+            return 0;
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+}
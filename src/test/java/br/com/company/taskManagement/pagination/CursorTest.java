@@ -0,0 +1,72 @@
+package br.com.company.taskManagement.pagination;
+
+import br.com.company.taskManagement.dto.CursorPageDto;
+import br.com.company.taskManagement.exception.ExceptionMessage;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorTest {
+
+    @Test
+    void shouldDecodeSameKeysWhenEncode() throws ExceptionMessage {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("id", 42L);
+
+        KeysetScrollPosition position = Cursor.decode(Cursor.encode(ScrollPosition.forward(keys)));
+
+        assertEquals(keys, position.getKeys());
+    }
+
+    @Test
+    void shouldReturnInitialPositionWhenDecodeEmptyCursor() throws ExceptionMessage {
+        assertTrue(Cursor.decode("").isInitial());
+    }
+
+    @Test
+    void shouldReturnExceptionWhenDecodeInvalidCursor() {
+        ExceptionMessage ex = assertThrows(ExceptionMessage.class, () -> Cursor.decode("not a cursor"));
+
+        assertEquals("Cursor inválido!", ex.getMessage());
+    }
+
+    @Test
+    void shouldReturnExceptionWhenSortIsNotSupported() {
+        ExceptionMessage ex = assertThrows(ExceptionMessage.class, () -> Cursor.sort(Sort.by("description")));
+
+        assertEquals("Ordenação não suportada na paginação por cursor: description", ex.getMessage());
+    }
+
+    @Test
+    void shouldReturnExceptionWhenSortKeyIsNullable() {
+        assertThrows(ExceptionMessage.class, () -> Cursor.sort(Sort.by("priority")));
+        assertThrows(ExceptionMessage.class, () -> Cursor.sort(Sort.by("creationDate")));
+        assertThrows(ExceptionMessage.class, () -> Cursor.decode(Cursor.encode(ScrollPosition.forward(Map.of("priority", "null")))));
+    }
+
+    @Test
+    void shouldReturnNextCursorWhenWindowHasNext() throws ExceptionMessage {
+        Window<String> window = Window.from(List.of("a", "b"), index -> ScrollPosition.forward(Map.of("id", (long) index)), true);
+
+        CursorPageDto<String> page = Cursor.toPage(window);
+
+        assertEquals(2, page.getSize());
+        assertEquals(Map.of("id", 1L), Cursor.decode(page.getNext()).getKeys());
+    }
+
+    @Test
+    void shouldReturnNullNextCursorWhenWindowIsLast() {
+        Window<String> window = Window.from(List.of("a"), index -> ScrollPosition.forward(Map.of("id", (long) index)), false);
+
+        assertNull(Cursor.toPage(window).getNext());
+    }
+
+}
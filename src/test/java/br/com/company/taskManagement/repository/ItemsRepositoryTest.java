@@ -0,0 +1,209 @@
+package br.com.company.taskManagement.repository;
+
+import br.com.company.taskManagement.config.CacheConfig;
+import br.com.company.taskManagement.config.StatementCountConfig;
+import br.com.company.taskManagement.dto.DeleteReportDto;
+import br.com.company.taskManagement.dto.ItemsDto;
+import br.com.company.taskManagement.entity.Items;
+import br.com.company.taskManagement.entity.Lists;
+import br.com.company.taskManagement.enums.Priority;
+import br.com.company.taskManagement.exception.ExceptionMessage;
+import br.com.company.taskManagement.exception.VersionConflictException;
+import br.com.company.taskManagement.jdbc.StatementCounter;
+import br.com.company.taskManagement.search.TitleSearchIndex;
+import br.com.company.taskManagement.service.ItemsService;
+import br.com.company.taskManagement.service.PriorityCountService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.*;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static br.com.company.taskManagement.jdbc.StatementAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({StatementCountConfig.class, CacheConfig.class, ItemsService.class, TitleSearchIndex.class, PriorityCountService.class, ProjectionRepository.class})
+class ItemsRepositoryTest {
+
+    @Autowired
+    ItemsRepository repository;
+
+    @Autowired
+    ListsRepository listsRepository;
+
+    @Autowired
+    ItemsService itemsService;
+
+    @Autowired
+    PriorityCountService priorityCountService;
+
+    @Autowired
+    EntityManager entityManager;
+
+
+    private Lists buildListsMock(int size) {
+        Lists lists = Lists.builder()
+                .title("Title Test")
+                .creationDate(LocalDateTime.now())
+                .priority(Priority.NORMAL)
+                .items(new ArrayList<>())
+                .build();
+        for (int i = 0; i < size; i++) {
+            lists.getItems().add(Items.builder()
+                    .title("Title Test " + i)
+                    .creationDate(LocalDateTime.now())
+                    .priority(Priority.NORMAL)
+                    .lists(lists)
+                    .build());
+        }
+        Lists saved = listsRepository.saveAndFlush(lists);
+        entityManager.clear();
+        return saved;
+    }
+
+
+    @Test
+    void shouldReturnOnlyRequestedPageWhenFindAllByListId() {
+        Lists lists = buildListsMock(25);
+        buildListsMock(5);
+
+        Page<Items> page = repository.findByListsId(lists.getId(), PageRequest.of(2, 10));
+
+        assertEquals(5, page.getNumberOfElements());
+        assertEquals(25, page.getTotalElements());
+    }
+
+    @Test
+    void shouldVisitEveryItemOnceWhenFindAllByListsSortedByTiedColumn() throws ExceptionMessage {
+        Lists lists = buildListsMock(25);
+        Set<Long> visited = new HashSet<>();
+
+        for (int page = 0; page < 3; page++)
+            itemsService.findAllByLists(lists.getId(), PageRequest.of(page, 10, Sort.by("creationDate")))
+                    .forEach(items -> assertTrue(visited.add(items.getId())));
+
+        assertEquals(25, visited.size());
+    }
+
+    @Test
+    void shouldNotLoadListsItemsWhenCreateItems() throws ExceptionMessage {
+        Lists lists = buildListsMock(1000);
+        priorityCountService.create(lists.getId(), lists.getItems());
+        entityManager.flush();
+        StatementCounter.reset();
+
+        Items items = itemsService.createItems(lists.getId(), ItemsDto.builder().title("Title Test").build());
+        entityManager.flush();
+
+        assertNotNull(items.getId());
+        assertInserts(1);
+        assertUpdates(2);
+        assertSelectsAtMost(2);
+        assertEquals(1001, repository.findByListsId(lists.getId(), PageRequest.of(0, 1)).getTotalElements());
+    }
+
+    @Test
+    void shouldSelectOnceWhenDeleteById() {
+        Lists lists = buildListsMock(3);
+        Long id = lists.getItems().get(0).getId();
+        StatementCounter.reset();
+
+        itemsService.deleteById(id);
+        entityManager.flush();
+
+        assertSelects(1);
+        assertDeletes(1);
+        assertFalse(repository.existsById(id));
+    }
+
+    @Test
+    void shouldDeleteInChunksWithoutLoadingItemsWhenDeleteAll() throws ExceptionMessage {
+        Lists lists = buildListsMock(5);
+        priorityCountService.create(lists.getId(), lists.getItems());
+        entityManager.flush();
+        entityManager.clear();
+        ReflectionTestUtils.setField(itemsService, "deleteChunkSize", 2);
+        List<Long> ids = new ArrayList<>(lists.getItems().stream().map(Items::getId).toList());
+        ids.add(Long.MAX_VALUE);
+        StatementCounter.reset();
+
+        DeleteReportDto report = itemsService.deleteAll(ids);
+        entityManager.clear();
+
+        assertEquals(5, report.getDeleted());
+        assertSelects(3);
+        assertDeletes(3);
+        assertEquals(0, repository.findByListsId(lists.getId(), PageRequest.of(0, 1)).getTotalElements());
+        assertEquals(0, priorityCountService.findByListId(lists.getId()).get(Priority.NORMAL));
+        assertEquals(3, listsRepository.findVersionById(lists.getId()).orElseThrow() - lists.getVersion());
+    }
+
+    @Test
+    void shouldDeleteOnlyMatchingItemsWhenDeleteByFilters() throws ExceptionMessage {
+        Lists lists = buildListsMock(4);
+        repository.saveAndFlush(Items.builder()
+                .title("Title Urgent")
+                .creationDate(LocalDateTime.now())
+                .priority(Priority.URGENTE)
+                .lists(listsRepository.getReferenceById(lists.getId()))
+                .build());
+        entityManager.clear();
+
+        DeleteReportDto report = itemsService.deleteByFilters(Priority.URGENTE, null, null, null);
+
+        assertEquals(1, report.getDeleted());
+        assertEquals(4, repository.findByListsId(lists.getId(), PageRequest.of(0, 1)).getTotalElements());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenDeleteByFiltersWithoutFilters() {
+        buildListsMock(2);
+
+        assertThrows(ExceptionMessage.class, () -> itemsService.deleteByFilters(null, null, null, null));
+        assertEquals(2, repository.count());
+    }
+
+    @Test
+    void shouldNotTouchListsWhenPutItemsIsRejected() {
+        Lists lists = buildListsMock(1);
+        Items items = lists.getItems().get(0);
+
+        assertThrows(ExceptionMessage.class, () -> itemsService.putItems(items.getId(), ItemsDto.builder().title("Titl").build(), null));
+        assertThrows(VersionConflictException.class, () -> itemsService.putItems(items.getId(), ItemsDto.builder().title("Title Test").build(), 999L));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(lists.getVersion(), listsRepository.findVersionById(lists.getId()).orElseThrow());
+        assertEquals(items.getVersion(), repository.findVersionById(items.getId()).orElseThrow());
+    }
+
+    @Test
+    void shouldVisitEveryItemOnceWhenScrollByKeyset() {
+        buildListsMock(23);
+        Set<Long> visited = new HashSet<>();
+        ScrollPosition position = ScrollPosition.keyset();
+        Window<Items> window;
+
+        do {
+            ScrollPosition current = position;
+            window = repository.findBy(Specification.where(null),
+                    query -> query.sortBy(Sort.by("creationDate")).limit(10).scroll(current));
+            window.forEach(items -> assertTrue(visited.add(items.getId())));
+            if (!window.isEmpty())
+                position = window.positionAt(window.size() - 1);
+        } while (window.hasNext());
+
+        assertEquals(23, visited.size());
+    }
+
+}
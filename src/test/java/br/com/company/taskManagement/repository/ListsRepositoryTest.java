@@ -0,0 +1,195 @@
+package br.com.company.taskManagement.repository;
+
+import br.com.company.taskManagement.config.CacheConfig;
+import br.com.company.taskManagement.config.StatementCountConfig;
+import br.com.company.taskManagement.dto.DeleteReportDto;
+import br.com.company.taskManagement.dto.ItemsDto;
+import br.com.company.taskManagement.dto.ListsDto;
+import br.com.company.taskManagement.entity.Items;
+import br.com.company.taskManagement.entity.Lists;
+import br.com.company.taskManagement.enums.Priority;
+import br.com.company.taskManagement.exception.ExceptionMessage;
+import br.com.company.taskManagement.exception.VersionConflictException;
+import br.com.company.taskManagement.jdbc.StatementCounter;
+import br.com.company.taskManagement.search.TitleSearchIndex;
+import br.com.company.taskManagement.service.ListsService;
+import br.com.company.taskManagement.service.PriorityCountService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static br.com.company.taskManagement.jdbc.StatementAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({StatementCountConfig.class, CacheConfig.class, ListsService.class, TitleSearchIndex.class, PriorityCountService.class, ProjectionRepository.class})
+class ListsRepositoryTest {
+
+    @Autowired
+    ListsRepository repository;
+
+    @Autowired
+    ListsService listsService;
+
+    @Autowired
+    PriorityCountService priorityCountService;
+
+    @Autowired
+    PriorityCountRepository priorityCountRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+
+    @BeforeEach
+    void setUp() {
+        StatementCounter.reset();
+    }
+
+    private Lists buildListsMock(int size) {
+        Lists lists = Lists.builder()
+                .title("Title Test")
+                .description("Some Description")
+                .creationDate(LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS))
+                .priority(Priority.NORMAL)
+                .build();
+        List<Items> items = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            items.add(Items.builder()
+                    .title("Title Test " + i)
+                    .creationDate(LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS))
+                    .priority(Priority.NORMAL)
+                    .lists(lists)
+                    .build());
+        }
+        lists.setItems(items);
+        return lists;
+    }
+
+
+    @Test
+    void shouldBatchInsertsWhenSaveListsWithManyItems() {
+        Lists lists = buildListsMock(5000);
+
+        repository.saveAndFlush(lists);
+
+        assertUpdates(0);
+        assertInsertsAtMost(51);
+        assertTotalAtMost(65);
+    }
+
+    @Test
+    void shouldOnlyUpdateChangedItemWhenPutLists() throws ExceptionMessage {
+        Lists lists = repository.saveAndFlush(buildListsMock(2000));
+        entityManager.clear();
+
+        List<ItemsDto> itemsDto = new ArrayList<>();
+        lists.getItems().forEach(items -> itemsDto.add(ItemsDto.builder()
+                .id(items.getId())
+                .title(items.getTitle())
+                .creationDate(items.getCreationDate())
+                .priority(items.getPriority())
+                .build()));
+        itemsDto.get(0).setTitle("Title Changed");
+        ListsDto listsDto = ListsDto.builder()
+                .title(lists.getTitle())
+                .description(lists.getDescription())
+                .creationDate(lists.getCreationDate())
+                .priority(lists.getPriority())
+                .itemsDto(itemsDto)
+                .build();
+        StatementCounter.reset();
+
+        listsService.putLists(lists.getId(), listsDto, null);
+        entityManager.flush();
+
+        assertInserts(0);
+        assertDeletes(0);
+        assertUpdates(1);
+        assertTotalAtMost(4);
+    }
+
+    @Test
+    void shouldLoadItemsOfAllListsInOneQueryWhenSerializePage() throws JsonProcessingException {
+        for (int i = 0; i < 15; i++)
+            repository.save(buildListsMock(3));
+        repository.flush();
+        entityManager.clear();
+        StatementCounter.reset();
+
+        Page<Lists> page = listsService.findAll(PageRequest.of(0, 20));
+        String json = new ObjectMapper().findAndRegisterModules().writeValueAsString(page.getContent());
+
+        assertEquals(15, page.getNumberOfElements());
+        assertTrue(json.contains("Title Test 2"));
+        assertSelects(2);
+        assertNoRepeatedSelects();
+    }
+
+    @Test
+    void shouldNotBumpVersionWhenPutListsIsRejected() {
+        Lists lists = repository.saveAndFlush(buildListsMock(1));
+        entityManager.clear();
+        ListsDto listsDto = ListsDto.builder()
+                .title("Title Test")
+                .priority(Priority.NORMAL)
+                .itemsDto(new ArrayList<>())
+                .build();
+
+        assertThrows(VersionConflictException.class, () -> listsService.putLists(lists.getId(), listsDto, 999L));
+        listsDto.setTitle("Titl");
+        assertThrows(ExceptionMessage.class, () -> listsService.putLists(lists.getId(), listsDto, null));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(lists.getVersion(), repository.findVersionById(lists.getId()).orElseThrow());
+    }
+
+    @Test
+    void shouldDeleteListsWhenDeleteWithBodyWithoutVersion() throws ExceptionMessage {
+        Lists lists = repository.saveAndFlush(buildListsMock(1));
+        entityManager.clear();
+
+        listsService.delete(lists.getId(), Lists.builder().id(lists.getId()).title(lists.getTitle()).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertFalse(repository.existsById(lists.getId()));
+    }
+
+    @Test
+    void shouldDeleteListsItemsAndCountersWhenDeleteByFilters() throws ExceptionMessage {
+        Lists urgent = buildListsMock(3);
+        urgent.setPriority(Priority.URGENTE);
+        urgent = repository.save(urgent);
+        Lists normal = repository.save(buildListsMock(2));
+        repository.flush();
+        priorityCountService.create(urgent.getId(), urgent.getItems());
+        entityManager.flush();
+        entityManager.clear();
+        StatementCounter.reset();
+
+        DeleteReportDto report = listsService.deleteByFilters(Priority.URGENTE, null, null, null);
+        entityManager.clear();
+
+        assertEquals(1, report.getDeleted());
+        assertEquals(3, report.getItemsDeleted());
+        assertDeletes(3);
+        assertFalse(repository.existsById(urgent.getId()));
+        assertTrue(repository.existsById(normal.getId()));
+        assertTrue(priorityCountRepository.findByListId(urgent.getId()).isEmpty());
+    }
+
+}
@@ -0,0 +1,125 @@
+package br.com.company.taskManagement.repository;
+
+import br.com.company.taskManagement.config.CacheConfig;
+import br.com.company.taskManagement.config.StatementCountConfig;
+import br.com.company.taskManagement.entity.Items;
+import br.com.company.taskManagement.entity.Lists;
+import br.com.company.taskManagement.enums.Priority;
+import br.com.company.taskManagement.exception.ExceptionMessage;
+import br.com.company.taskManagement.jdbc.StatementCounter;
+import br.com.company.taskManagement.repository.projection.Fields;
+import br.com.company.taskManagement.repository.specification.FiltersSpecification;
+import br.com.company.taskManagement.search.TitleSearchIndex;
+import br.com.company.taskManagement.service.ListsService;
+import br.com.company.taskManagement.service.PriorityCountService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static br.com.company.taskManagement.jdbc.StatementAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({StatementCountConfig.class, CacheConfig.class, ProjectionRepository.class, ListsService.class, TitleSearchIndex.class, PriorityCountService.class})
+class ProjectionRepositoryTest {
+
+    @Autowired
+    ProjectionRepository projectionRepository;
+
+    @Autowired
+    ListsService listsService;
+
+    @Autowired
+    ListsRepository listsRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    List<Lists> lists = new ArrayList<>();
+
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 3; i++) {
+            Lists newLists = Lists.builder()
+                    .title("Title Test " + i)
+                    .description("Some Description")
+                    .creationDate(LocalDateTime.now())
+                    .priority(i == 0 ? Priority.URGENTE : Priority.NORMAL)
+                    .items(new ArrayList<>())
+                    .build();
+            for (int j = 0; j < i; j++)
+                newLists.getItems().add(Items.builder().title("Title Test " + j).priority(Priority.NORMAL).lists(newLists).build());
+            lists.add(listsRepository.save(newLists));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        StatementCounter.reset();
+    }
+
+
+    @Test
+    void shouldSelectOnlyRequestedColumnsWhenFindAll() throws ExceptionMessage {
+        Page<Map<String, Object>> page = projectionRepository.findAll(Lists.class, Specification.where(null),
+                Fields.parse("title,priority", null), PageRequest.of(0, 2, Sort.by("id")));
+
+        assertEquals(List.of("id", "title", "priority"), List.copyOf(page.getContent().get(0).keySet()));
+        assertEquals(lists.get(0).getId(), page.getContent().get(0).get("id"));
+        assertEquals(Priority.URGENTE, page.getContent().get(0).get("priority"));
+        assertEquals(3, page.getTotalElements());
+        assertSelects(2);
+        StatementCounter.current().getSelects().keySet()
+                .forEach(sql -> assertFalse(sql.contains("description") || sql.contains("creation_date"), sql));
+    }
+
+    @Test
+    void shouldApplySpecificationWhenFindAll() throws ExceptionMessage {
+        Page<Map<String, Object>> page = projectionRepository.findAll(Lists.class,
+                FiltersSpecification.of(Priority.NORMAL, null, null, null, null), Fields.parse("title", null), PageRequest.of(0, 10));
+
+        assertEquals(2, page.getNumberOfElements());
+        assertSelects(1);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenFieldIsNotABasicColumn() {
+        assertThrows(ExceptionMessage.class, () -> projectionRepository.findAll(Lists.class, Specification.where(null),
+                Fields.parse("items", null), PageRequest.of(0, 10)));
+        assertThrows(ExceptionMessage.class, () -> projectionRepository.findAll(Lists.class, Specification.where(null),
+                Fields.parse("unknown", null), PageRequest.of(0, 10)));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenFieldsWithCursor() {
+        assertThrows(ExceptionMessage.class, () -> Fields.parse("title", ""));
+    }
+
+    @Test
+    void shouldLoadItemsInOneQueryWhenFieldsIncludeItems() throws ExceptionMessage {
+        Page<Map<String, Object>> page = listsService.findFields(Fields.parse("title,items", null), PageRequest.of(0, 10, Sort.by("id")));
+
+        assertEquals(0, ((List<?>) page.getContent().get(0).get("items")).size());
+        assertEquals(2, ((List<?>) page.getContent().get(2).get("items")).size());
+        assertSelects(2);
+    }
+
+    @Test
+    void shouldNotQueryItemsWhenFieldsExcludeItems() throws ExceptionMessage {
+        Page<Map<String, Object>> page = listsService.findFields(Fields.parse("title", null), PageRequest.of(0, 10));
+
+        assertFalse(page.getContent().get(0).containsKey("items"));
+        assertSelects(1);
+    }
+}
@@ -0,0 +1,103 @@
+package br.com.company.taskManagement.repository.specification;
+
+import br.com.company.taskManagement.entity.Items;
+import br.com.company.taskManagement.enums.Priority;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FiltersSpecificationTest {
+
+    @Mock
+    Root<Items> root;
+
+    @Mock
+    CriteriaQuery<?> query;
+
+    @Mock
+    CriteriaBuilder builder;
+
+    @Mock
+    Path<Object> path;
+
+    @Mock
+    Path<Object> titlePath;
+
+    @Mock
+    Path<LocalDateTime> creationPath;
+
+    @Mock
+    Path<LocalDateTime> finishPath;
+
+
+    @Test
+    void shouldOnlyEmitPriorityPredicateWhenOnlyPriorityIsPresent() {
+        when(root.get("priority")).thenReturn(path);
+
+        FiltersSpecification.<Items>of(Priority.URGENTE, null, null, null, null).toPredicate(root, query, builder);
+
+        verify(builder, times(1)).equal(path, Priority.URGENTE);
+        verify(root, never()).get("creationDate");
+        verify(root, never()).get("finishDate");
+        verify(root, never()).get("title");
+    }
+
+    @Test
+    void shouldEmitNoPredicateWhenNoFilterIsPresent() {
+        FiltersSpecification.<Items>of(null, null, null, null, null).toPredicate(root, query, builder);
+
+        verify(root, never()).get(anyString());
+        verify(builder, times(1)).and();
+    }
+
+    @Test
+    void shouldRestrictToIndexedIdsWhenTitleIdsArePresent() {
+        Set<Long> ids = Set.of(1L, 2L);
+
+        when(root.get("title")).thenReturn(titlePath);
+        when(root.get("id")).thenReturn(path);
+
+        FiltersSpecification.<Items>of(null, null, null, "Title", ids).toPredicate(root, query, builder);
+
+        verify(path, times(1)).in(ids);
+        verify(builder, never()).disjunction();
+    }
+
+    @Test
+    void shouldMatchNothingWhenTitleIdsAreEmpty() {
+        when(root.get("title")).thenReturn(path);
+
+        FiltersSpecification.<Items>of(null, null, null, "Title", Set.of()).toPredicate(root, query, builder);
+
+        verify(builder, times(1)).disjunction();
+        verify(root, never()).get("id");
+    }
+
+    @Test
+    void shouldEmitRangePredicatesWhenDatesArePresent() {
+        LocalDateTime creationDate = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime finishDate = LocalDateTime.of(2024, 12, 31, 0, 0);
+
+        doReturn(creationPath).when(root).get("creationDate");
+        doReturn(finishPath).when(root).get("finishDate");
+
+        FiltersSpecification.<Items>of(null, creationDate, finishDate, null, null).toPredicate(root, query, builder);
+
+        verify(builder, times(1)).greaterThanOrEqualTo(creationPath, creationDate);
+        verify(builder, times(1)).lessThanOrEqualTo(finishPath, finishDate);
+        verify(builder, never()).equal(any(), any(Object.class));
+    }
+
+}
@@ -0,0 +1,117 @@
+package br.com.company.taskManagement.search;
+
+import br.com.company.taskManagement.entity.Items;
+import br.com.company.taskManagement.repository.ItemsRepository;
+import br.com.company.taskManagement.repository.ListsRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TitleSearchIndexTest {
+
+    @InjectMocks
+    TitleSearchIndex index;
+
+    @Mock
+    ItemsRepository itemsRepository;
+
+    @Mock
+    ListsRepository listsRepository;
+
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(index, "enabled", true);
+        ReflectionTestUtils.setField(index, "singleWriter", true);
+        ReflectionTestUtils.setField(index, "maxCandidates", 1000);
+        ReflectionTestUtils.setField(index, "loadBatchSize", 100);
+        when(itemsRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any())).thenReturn(Collections.emptyList());
+        when(listsRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any())).thenReturn(Collections.emptyList());
+        index.load();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private Items buildItemsMock(String title) {
+        return Items.builder().id(1L).title(title).build();
+    }
+
+
+    @Test
+    void shouldApplyChangesOnlyAfterCommitWhenInTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        index.putItems(buildItemsMock("Comprar leite"));
+
+        assertEquals(Optional.of(Set.of()), index.searchItems("leite"));
+        TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        assertEquals(Optional.of(Set.of(1L)), index.searchItems("leite"));
+    }
+
+    @Test
+    void shouldKeepPreviousTitleWhenTransactionRollsBack() {
+        index.putItems(buildItemsMock("Comprar leite"));
+        TransactionSynchronizationManager.initSynchronization();
+
+        index.putItems(buildItemsMock("Pagar contas"));
+        index.removeItems(1L);
+        TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(),
+                TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertEquals(Optional.of(Set.of(1L)), index.searchItems("leite"));
+        assertEquals(Optional.of(Set.of()), index.searchItems("contas"));
+    }
+
+    @Test
+    void shouldFallBackToLikeWhenIndexIsNotSingleWriter() {
+        index.putItems(buildItemsMock("Comprar leite"));
+        ReflectionTestUtils.setField(index, "singleWriter", false);
+
+        assertEquals(Optional.empty(), index.searchItems("leite"));
+    }
+
+    @Test
+    void shouldNotLoadNorKeepTitlesWhenIndexIsNotSingleWriter() {
+        TitleSearchIndex multiWriter = new TitleSearchIndex();
+        ReflectionTestUtils.setField(multiWriter, "enabled", true);
+        ReflectionTestUtils.setField(multiWriter, "singleWriter", false);
+
+        multiWriter.load();
+        multiWriter.putItems(buildItemsMock("Comprar leite"));
+
+        TrigramIndex itemsIndex = (TrigramIndex) ReflectionTestUtils.getField(multiWriter, "itemsIndex");
+        assertEquals(0, itemsIndex.size());
+        verify(itemsRepository, times(1)).findByIdGreaterThanOrderByIdAsc(anyLong(), any());
+    }
+
+    @Test
+    void shouldFallBackToLikeWhenTitleHasWildcard() {
+        index.putItems(buildItemsMock("Comprar leite"));
+
+        assertEquals(Optional.empty(), index.searchItems("com%te"));
+        assertEquals(Optional.empty(), index.searchItems("lei_e"));
+    }
+
+}
@@ -0,0 +1,82 @@
+package br.com.company.taskManagement.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrigramIndexTest {
+
+    private TrigramIndex buildIndexMock() {
+        TrigramIndex index = new TrigramIndex();
+        index.put(1L, "Comprar leite");
+        index.put(2L, "Comprar pão");
+        index.put(3L, "Pagar contas");
+        return index;
+    }
+
+
+    @Test
+    void shouldReturnIdsWhenSearchSubstring() {
+        TrigramIndex index = buildIndexMock();
+
+        assertEquals(Optional.of(Set.of(1L, 2L)), index.search("compra"));
+        assertEquals(Optional.of(Set.of(1L)), index.search("LEITE"));
+    }
+
+    @Test
+    void shouldIgnoreAccentsWhenSearch() {
+        TrigramIndex index = buildIndexMock();
+
+        assertEquals(Optional.of(Set.of(2L)), index.search("PAO"));
+        assertEquals(Optional.of(Set.of(2L)), index.search("pão"));
+    }
+
+    @Test
+    void shouldNotReturnFalsePositivesWhenTrigramsMatchInAnotherOrder() {
+        TrigramIndex index = new TrigramIndex();
+        index.put(1L, "abcdbc");
+
+        assertEquals(Optional.of(Set.of()), index.search("bcdbcd"));
+        assertEquals(Optional.of(Set.of(1L)), index.search("cdbc"));
+    }
+
+    @Test
+    void shouldReturnEmptyWhenQueryIsShorterThanGram() {
+        TrigramIndex index = buildIndexMock();
+
+        assertTrue(index.search("co").isEmpty());
+    }
+
+    @Test
+    void shouldReindexWhenPutExistingId() {
+        TrigramIndex index = buildIndexMock();
+
+        index.put(1L, "Comprar café");
+
+        assertEquals(Optional.of(Set.of()), index.search("leite"));
+        assertEquals(Optional.of(Set.of(1L)), index.search("café"));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void shouldNotReturnIdWhenRemoved() {
+        TrigramIndex index = buildIndexMock();
+
+        index.remove(2L);
+
+        assertEquals(Optional.of(Set.of(1L)), index.search("comprar"));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void shouldReturnEmptyWhenMatchesExceedLimit() {
+        TrigramIndex index = buildIndexMock();
+
+        assertEquals(Optional.empty(), index.search("comprar", 1));
+        assertEquals(Optional.of(Set.of(3L)), index.search("contas", 1));
+    }
+
+}
@@ -0,0 +1,151 @@
+package br.com.company.taskManagement.serializer;
+
+import br.com.company.taskManagement.dto.PageDto;
+import br.com.company.taskManagement.entity.Items;
+import br.com.company.taskManagement.entity.Lists;
+import br.com.company.taskManagement.enums.Priority;
+import br.com.company.taskManagement.pagination.Offset;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SerializerTest {
+
+    ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    ObjectMapper customized = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+            .postConfigurer(mapper -> mapper.configOverride(LocalDateTime.class).setFormat(JsonFormat.Value.forPattern("dd/MM/yyyy HH:mm")))
+            .build();
+
+
+    private Lists buildListsMock() {
+        Lists lists = Lists.builder()
+                .id(1L)
+                .title("Title Test")
+                .description("Some \"Description\"")
+                .creationDate(LocalDateTime.of(2024, 1, 1, 10, 0))
+                .finishDate(LocalDateTime.of(2024, 1, 2, 10, 30, 15, 123000000))
+                .priority(Priority.URGENTE)
+                .version(3L)
+                .items(new ArrayList<>())
+                .build();
+        lists.getItems().add(Items.builder().id(2L).title("Title Test").creationDate(LocalDateTime.of(2024, 1, 1, 10, 0)).priority(Priority.NORMAL).lists(lists).build());
+        lists.getItems().add(Items.builder().id(3L).title("Title Test").lists(lists).build());
+        return lists;
+    }
+
+
+    private JsonNode contentOf(ObjectMapper mapper, List<?> content) throws JsonProcessingException {
+        PageDto<?> page = Offset.toPage(new PageImpl<>(content, PageRequest.of(0, 10), content.size()));
+        return mapper.readTree(mapper.writeValueAsString(page)).get("content");
+    }
+
+    private List<String> fieldsOf(Class<?> entity) {
+        return Arrays.stream(entity.getDeclaredFields())
+                .filter(field -> !Modifier.isStatic(field.getModifiers()))
+                .filter(field -> !field.isAnnotationPresent(JsonIgnore.class))
+                .map(Field::getName)
+                .toList();
+    }
+
+
+    @Test
+    void shouldWriteSameJsonAsBeanSerializerWhenSerializePageOfLists() throws JsonProcessingException {
+        Lists lists = buildListsMock();
+
+        assertEquals(objectMapper.readTree(objectMapper.writeValueAsString(lists)), contentOf(objectMapper, List.of(lists)).get(0));
+    }
+
+    @Test
+    void shouldWriteSameJsonAsBeanSerializerWhenSerializePageOfItems() throws JsonProcessingException {
+        List<Items> items = buildListsMock().getItems();
+
+        assertEquals(objectMapper.readTree(objectMapper.writeValueAsString(items)), contentOf(objectMapper, items));
+    }
+
+    @Test
+    void shouldWriteSameJsonAsBeanSerializerWhenYearOutOfRange() throws JsonProcessingException {
+        Items items = Items.builder().id(1L).creationDate(LocalDateTime.of(12024, 1, 1, 0, 0)).build();
+
+        assertEquals(objectMapper.readTree(objectMapper.writeValueAsString(items)), contentOf(objectMapper, List.of(items)).get(0));
+    }
+
+    @Test
+    void shouldFollowObjectMapperConfigWhenSerializePage() throws JsonProcessingException {
+        Lists lists = buildListsMock();
+
+        JsonNode json = contentOf(customized, List.of(lists)).get(0);
+
+        assertEquals(customized.readTree(customized.writeValueAsString(lists)), json);
+        assertEquals("01/01/2024 10:00", json.get("creation_date").asText());
+        assertFalse(json.get("items").get(1).has("description"));
+    }
+
+    @Test
+    void shouldWriteEveryEntityFieldWhenSerializePage() throws JsonProcessingException {
+        Lists lists = buildListsMock();
+
+        JsonNode listsJson = contentOf(objectMapper, List.of(lists)).get(0);
+        JsonNode itemsJson = contentOf(objectMapper, lists.getItems()).get(0);
+
+        for (String field : fieldsOf(Lists.class))
+            assertTrue(listsJson.has(field), "Lists." + field + " não foi serializado");
+        for (String field : fieldsOf(Items.class))
+            assertTrue(itemsJson.has(field), "Items." + field + " não foi serializado");
+    }
+
+    @Test
+    void shouldWriteOnlyContentNextAndTotalWhenSerializePage() throws JsonProcessingException {
+        Page<Lists> page = new PageImpl<>(List.of(buildListsMock()), PageRequest.of(0, 1), 5);
+
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(Offset.toPage(page)));
+
+        assertEquals(3, json.size());
+        assertEquals(1, json.get("content").size());
+        assertEquals(1, json.get("next").asInt());
+        assertEquals(5, json.get("total").asLong());
+    }
+
+    @Test
+    void shouldOmitNextWhenLastPage() throws JsonProcessingException {
+        Page<Items> page = new PageImpl<>(buildListsMock().getItems(), PageRequest.of(0, 10), 2);
+
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(Offset.toPage(page)));
+
+        assertFalse(json.has("next"));
+        assertEquals(2, json.get("total").asLong());
+    }
+
+    @Test
+    void shouldWriteFewerBytesThanPageImplWhenSerializeSmallPage() throws JsonProcessingException {
+        Page<Items> page = new PageImpl<>(buildListsMock().getItems(), PageRequest.of(0, 2), 100);
+
+        int pageImplBytes = objectMapper.writeValueAsBytes(page).length;
+        int pageDtoBytes = objectMapper.writeValueAsBytes(Offset.toPage(page)).length;
+
+        assertTrue(pageDtoBytes < pageImplBytes * 0.6, pageDtoBytes + " vs " + pageImplBytes);
+    }
+}
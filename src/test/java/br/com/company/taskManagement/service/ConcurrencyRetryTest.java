@@ -0,0 +1,61 @@
+package br.com.company.taskManagement.service;
+
+import br.com.company.taskManagement.exception.ExceptionMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyRetryTest {
+
+    ConcurrencyRetry concurrencyRetry;
+
+    @BeforeEach
+    void setUp() {
+        concurrencyRetry = new ConcurrencyRetry();
+        ReflectionTestUtils.setField(concurrencyRetry, "maxAttempts", 3);
+        ReflectionTestUtils.setField(concurrencyRetry, "backoffMs", 0L);
+    }
+
+    @Test
+    void shouldRetryWhenConcurrencyFailure() throws ExceptionMessage {
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = concurrencyRetry.execute(() -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new CannotAcquireLockException("deadlock");
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void shouldThrowWhenMaxAttemptsExceeded() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(CannotAcquireLockException.class, () -> concurrencyRetry.execute(() -> {
+            calls.incrementAndGet();
+            throw new CannotAcquireLockException("deadlock");
+        }));
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void shouldNotRetryWhenOtherFailure() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(DataIntegrityViolationException.class, () -> concurrencyRetry.execute(() -> {
+            calls.incrementAndGet();
+            throw new DataIntegrityViolationException("constraint");
+        }));
+        assertEquals(1, calls.get());
+    }
+}
@@ -0,0 +1,85 @@
+package br.com.company.taskManagement.service;
+
+import br.com.company.taskManagement.entity.Items;
+import br.com.company.taskManagement.entity.Lists;
+import br.com.company.taskManagement.enums.ExportFormat;
+import br.com.company.taskManagement.enums.Priority;
+import br.com.company.taskManagement.repository.ListsRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({ExportService.class, JacksonAutoConfiguration.class})
+class ExportServiceTest {
+
+    @Autowired
+    ExportService service;
+
+    @Autowired
+    ListsRepository listsRepository;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    EntityManager entityManager;
+
+    Lists lists;
+
+
+    @BeforeEach
+    void setUp() {
+        Lists newLists = Lists.builder()
+                .title("Title, \"Test\"")
+                .creationDate(LocalDateTime.of(2024, 1, 1, 10, 0))
+                .priority(Priority.NORMAL)
+                .items(new ArrayList<>())
+                .build();
+        for (int i = 0; i < 3; i++)
+            newLists.getItems().add(Items.builder().title("Title Test " + i).priority(Priority.URGENTE).lists(newLists).build());
+        lists = listsRepository.saveAndFlush(newLists);
+        entityManager.clear();
+    }
+
+
+    @Test
+    void shouldWriteOneJsonLinePerItemWhenExportItemsNdjson() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        service.exportItems(ExportFormat.NDJSON, outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals(lists.getId(), first.get("listId").asLong());
+        assertEquals("URGENTE", first.get("priority").asText());
+        assertTrue(first.get("title").asText().startsWith("Title Test"));
+    }
+
+    @Test
+    void shouldWriteHeaderAndEscapedRowsWhenExportListsCsv() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        service.exportLists(ExportFormat.CSV, outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals("id,title,description,creationDate,finishDate,priority", lines[0]);
+        assertEquals(lists.getId() + ",\"Title, \"\"Test\"\"\",,2024-01-01T10:00,,NORMAL", lines[1]);
+    }
+
+}
@@ -0,0 +1,151 @@
+package br.com.company.taskManagement.service;
+
+import br.com.company.taskManagement.config.CacheConfig;
+import br.com.company.taskManagement.dto.ImportReportDto;
+import br.com.company.taskManagement.dto.ItemsDto;
+import br.com.company.taskManagement.entity.Lists;
+import br.com.company.taskManagement.enums.Priority;
+import br.com.company.taskManagement.exception.ExceptionMessage;
+import br.com.company.taskManagement.repository.ItemsRepository;
+import br.com.company.taskManagement.repository.ListsRepository;
+import br.com.company.taskManagement.repository.ProjectionRepository;
+import br.com.company.taskManagement.search.TitleSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+@DataJpaTest
+@Import({ImportService.class, ItemsService.class, ConcurrencyRetry.class, PriorityCountService.class, ProjectionRepository.class, TitleSearchIndex.class, CacheConfig.class, JacksonAutoConfiguration.class})
+@TestPropertySource(properties = {"import.batch-size=2", "import.max-errors=1", "import.max-line-length=64"})
+class ImportServiceTest {
+
+    @Autowired
+    ImportService service;
+
+    @Autowired
+    ListsRepository listsRepository;
+
+    @Autowired
+    ItemsRepository itemsRepository;
+
+    @SpyBean
+    ItemsService itemsService;
+
+    Lists lists;
+
+
+    @BeforeEach
+    void setUp() {
+        lists = listsRepository.saveAndFlush(Lists.builder()
+                .title("Title Test")
+                .creationDate(LocalDateTime.now())
+                .priority(Priority.NORMAL)
+                .items(new ArrayList<>())
+                .build());
+    }
+
+
+    @Test
+    void shouldInsertValidLinesAndReportInvalidOnesWhenImportItems() throws ExceptionMessage, IOException {
+        String body = """
+                {"title":"Title Test 1","priority":"URGENTE"}
+                {"title":"T"}
+
+                {"title":"Title Test 2"
+                {"title":"Title Test 3","priority":"NORMAL"}
+                {"title":"Title Test 4"}
+                """;
+
+        ImportReportDto report = service.importItems(lists.getId(), toInputStream(body));
+
+        assertEquals(3, report.getImported());
+        assertEquals(2, report.getFailed());
+        assertEquals(1, report.getErrors().size());
+        assertEquals(2, report.getErrors().get(0).getLine());
+        assertEquals(3, itemsRepository.findByListsId(lists.getId(), PageRequest.of(0, 10)).getTotalElements());
+    }
+
+    @Test
+    void shouldReportOnlyFailingLineWhenBatchFails() throws ExceptionMessage, IOException {
+        doAnswer(invocation -> {
+            List<ItemsDto> itemsDto = invocation.getArgument(1);
+            if (itemsDto.stream().anyMatch(dto -> dto.getTitle().equals("Title Fail")))
+                throw new DataIntegrityViolationException("constraint");
+            return invocation.callRealMethod();
+        }).when(itemsService).createItemsBatch(eq(lists.getId()), anyList());
+        String body = """
+                {"title":"Title Test 1"}
+                {"title":"Title Fail"}
+                {"title":"Title Test 3"}
+                """;
+
+        ImportReportDto report = service.importItems(lists.getId(), toInputStream(body));
+
+        assertEquals(2, report.getImported());
+        assertEquals(1, report.getFailed());
+        assertEquals(2, report.getErrors().get(0).getLine());
+        assertEquals("constraint", report.getErrors().get(0).getMessage());
+        assertEquals(2, itemsRepository.findByListsId(lists.getId(), PageRequest.of(0, 10)).getTotalElements());
+    }
+
+    @Test
+    void shouldReportLineTooLongAndKeepCountingLinesWhenImportItems() throws ExceptionMessage, IOException {
+        String body = "{\"title\":\"Title Test 1\"}\r\n"
+                + "{\"title\":\"Title Test 2\",\"description\":\"" + "x".repeat(10000) + "\"}\r\n"
+                + "{\"title\":\"Title Test 3\"}";
+
+        ImportReportDto report = service.importItems(lists.getId(), toInputStream(body));
+
+        assertEquals(2, report.getImported());
+        assertEquals(1, report.getFailed());
+        assertEquals(2, report.getErrors().get(0).getLine());
+        assertEquals("A linha excede o limite de 64 caracteres", report.getErrors().get(0).getMessage());
+    }
+
+    @Test
+    void shouldSplitLinesLikeBufferedReaderWhenLinesFitTheLimit() throws IOException {
+        ImportService.LineReader reader = new ImportService.LineReader(new StringReader("abc\r\n\nabcd\nabcde"), 4);
+
+        assertEquals("abc", reader.readLine());
+        assertEquals("", reader.readLine());
+        assertEquals("abcd", reader.readLine());
+        assertFalse(reader.isTooLong());
+        reader.readLine();
+        assertTrue(reader.isTooLong());
+        assertNull(reader.readLine());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenImportItemsIntoMissingLists() {
+        ExceptionMessage ex = assertThrows(ExceptionMessage.class,
+                () -> service.importItems(-1L, toInputStream("{\"title\":\"Title Test\"}")));
+
+        assertEquals("Lista não encontrada!", ex.getMessage());
+    }
+
+    private InputStream toInputStream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
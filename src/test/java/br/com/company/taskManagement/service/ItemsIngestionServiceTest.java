@@ -0,0 +1,215 @@
+package br.com.company.taskManagement.service;
+
+import br.com.company.taskManagement.dto.IngestionStatusDto;
+import br.com.company.taskManagement.dto.ItemsDto;
+import br.com.company.taskManagement.entity.Items;
+import br.com.company.taskManagement.enums.IngestionStatus;
+import br.com.company.taskManagement.exception.ExceptionMessage;
+import br.com.company.taskManagement.exception.QueueFullException;
+import br.com.company.taskManagement.repository.ListsRepository;
+import br.com.company.taskManagement.search.TitleSearchIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ItemsIngestionServiceTest {
+
+    @InjectMocks
+    ItemsIngestionService service;
+
+    @Mock
+    ItemsService itemsService;
+
+    @Mock
+    ListsRepository listsRepository;
+
+    @Mock
+    TitleSearchIndex titleSearchIndex;
+
+    @Spy
+    ConcurrencyRetry concurrencyRetry;
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    AtomicLong ids = new AtomicLong();
+
+
+    private ItemsDto buildItemsDtoMock(String title) {
+        return ItemsDto.builder()
+                .title(title)
+                .description("Some Description")
+                .build();
+    }
+
+    private List<Items> insert(List<ItemsDto> itemsDto) {
+        List<Items> itemsList = new ArrayList<>();
+        itemsDto.forEach(dto -> itemsList.add(Items.builder().id(ids.incrementAndGet()).title(dto.getTitle()).build()));
+        return itemsList;
+    }
+
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "queueCapacity", 2);
+        ReflectionTestUtils.setField(service, "batchSize", 10);
+        ReflectionTestUtils.setField(service, "pollMs", 10L);
+        ReflectionTestUtils.setField(service, "statusTtlMinutes", 1L);
+        ReflectionTestUtils.setField(service, "statusMaxSize", 100L);
+        ReflectionTestUtils.setField(service, "shutdownTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(service, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(concurrencyRetry, "maxAttempts", 1);
+        service.init();
+    }
+
+    @Test
+    void shouldCoalesceItemsPerListWhenDrain() throws ExceptionMessage {
+        when(listsRepository.existsById(anyLong())).thenReturn(true);
+        when(itemsService.createItemsBatch(anyLong(), anyList())).thenAnswer(invocation -> insert(invocation.getArgument(1)));
+        ReflectionTestUtils.setField(service, "running", true);
+
+        IngestionStatusDto first = service.enqueue(1L, buildItemsDtoMock("Title One"));
+        IngestionStatusDto second = service.enqueue(1L, buildItemsDtoMock("Title Two"));
+        ReflectionTestUtils.setField(service, "running", false);
+        ReflectionTestUtils.invokeMethod(service, "drain");
+
+        verify(itemsService, times(1)).createItemsBatch(eq(1L), argThat(itemsDto -> itemsDto.size() == 2));
+        assertEquals(IngestionStatus.CONCLUIDO, service.findStatus(first.getTrackingId()).getStatus());
+        assertEquals(2L, service.findStatus(second.getTrackingId()).getItemsId());
+    }
+
+    @Test
+    void shouldIsolateFailingItemWhenBatchFails() throws ExceptionMessage {
+        when(listsRepository.existsById(anyLong())).thenReturn(true);
+        when(itemsService.createItemsBatch(anyLong(), anyList())).thenAnswer(invocation -> {
+            List<ItemsDto> itemsDto = invocation.getArgument(1);
+            if (itemsDto.stream().anyMatch(dto -> dto.getTitle().equals("Title Fail")))
+                throw new DataIntegrityViolationException("constraint");
+            return insert(itemsDto);
+        });
+        ReflectionTestUtils.setField(service, "running", true);
+
+        IngestionStatusDto ok = service.enqueue(1L, buildItemsDtoMock("Title Okay"));
+        IngestionStatusDto fail = service.enqueue(1L, buildItemsDtoMock("Title Fail"));
+        ReflectionTestUtils.setField(service, "running", false);
+        ReflectionTestUtils.invokeMethod(service, "drain");
+
+        assertEquals(IngestionStatus.CONCLUIDO, service.findStatus(ok.getTrackingId()).getStatus());
+        assertEquals(IngestionStatus.FALHOU, service.findStatus(fail.getTrackingId()).getStatus());
+        assertEquals("constraint", service.findStatus(fail.getTrackingId()).getMessage());
+    }
+
+    @Test
+    void shouldThrowQueueFullWhenCapacityReached() throws ExceptionMessage {
+        when(listsRepository.existsById(anyLong())).thenReturn(true);
+        ReflectionTestUtils.setField(service, "running", true);
+
+        service.enqueue(1L, buildItemsDtoMock("Title Test"));
+        service.enqueue(1L, buildItemsDtoMock("Title Test"));
+
+        assertThrows(QueueFullException.class, () -> service.enqueue(1L, buildItemsDtoMock("Title Test")));
+        assertEquals(2, meterRegistry.get("ingestion.queue.size").gauge().value());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenEnqueueInvalidTitle() {
+        assertThrows(ExceptionMessage.class, () -> service.enqueue(1L, buildItemsDtoMock("Titl")));
+        verify(listsRepository, never()).existsById(anyLong());
+    }
+
+    @Test
+    void shouldWriteQueuedItemsWhenStop() throws ExceptionMessage {
+        when(listsRepository.existsById(anyLong())).thenReturn(true);
+        when(itemsService.createItemsBatch(anyLong(), anyList())).thenAnswer(invocation -> insert(invocation.getArgument(1)));
+        service.start();
+
+        IngestionStatusDto first = service.enqueue(1L, buildItemsDtoMock("Title One"));
+        IngestionStatusDto second = service.enqueue(2L, buildItemsDtoMock("Title Two"));
+        service.stop();
+
+        assertFalse(service.isRunning());
+        assertEquals(IngestionStatus.CONCLUIDO, service.findStatus(first.getTrackingId()).getStatus());
+        assertEquals(IngestionStatus.CONCLUIDO, service.findStatus(second.getTrackingId()).getStatus());
+        assertThrows(QueueFullException.class, () -> service.enqueue(1L, buildItemsDtoMock("Title Test")));
+    }
+
+    @Test
+    void shouldInterruptWriterBeforeDrainingWhenStopTimesOut() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        when(listsRepository.existsById(anyLong())).thenReturn(true);
+        when(itemsService.createItemsBatch(anyLong(), anyList())).thenAnswer(invocation -> {
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            try {
+                if (writing.getCount() > 0) {
+                    writing.countDown();
+                    Thread.sleep(10000);
+                }
+                return insert(invocation.getArgument(1));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("interrompido");
+            } finally {
+                active.decrementAndGet();
+            }
+        });
+        ReflectionTestUtils.setField(service, "shutdownTimeoutMs", 100L);
+        service.start();
+
+        IngestionStatusDto first = service.enqueue(1L, buildItemsDtoMock("Title One"));
+        assertTrue(writing.await(1, TimeUnit.SECONDS));
+        IngestionStatusDto second = service.enqueue(2L, buildItemsDtoMock("Title Two"));
+        service.stop();
+
+        assertEquals(1, maxActive.get());
+        assertEquals(IngestionStatus.FALHOU, service.findStatus(first.getTrackingId()).getStatus());
+        assertEquals(IngestionStatus.CONCLUIDO, service.findStatus(second.getTrackingId()).getStatus());
+    }
+
+    @Test
+    void shouldNotDrainWhenWriterIgnoresInterrupt() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(listsRepository.existsById(anyLong())).thenReturn(true);
+        when(itemsService.createItemsBatch(anyLong(), anyList())).thenAnswer(invocation -> {
+            writing.countDown();
+            while (release.getCount() > 0) {
+                try {
+                    release.await();
+                } catch (InterruptedException ignored) {
+                }
+            }
+            return insert(invocation.getArgument(1));
+        });
+        ReflectionTestUtils.setField(service, "shutdownTimeoutMs", 50L);
+        service.start();
+
+        service.enqueue(1L, buildItemsDtoMock("Title One"));
+        assertTrue(writing.await(1, TimeUnit.SECONDS));
+        IngestionStatusDto second = service.enqueue(2L, buildItemsDtoMock("Title Two"));
+        service.stop();
+
+        verify(itemsService, times(1)).createItemsBatch(anyLong(), anyList());
+        assertEquals(IngestionStatus.PENDENTE, service.findStatus(second.getTrackingId()).getStatus());
+        release.countDown();
+    }
+}
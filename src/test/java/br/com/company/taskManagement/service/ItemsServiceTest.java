@@ -1,26 +1,36 @@
 package br.com.company.taskManagement.service;
 
+import br.com.company.taskManagement.dto.CursorPageDto;
 import br.com.company.taskManagement.dto.ItemsDto;
 import br.com.company.taskManagement.entity.Items;
 import br.com.company.taskManagement.entity.Lists;
 import br.com.company.taskManagement.enums.Priority;
 import br.com.company.taskManagement.exception.ExceptionMessage;
+import br.com.company.taskManagement.exception.VersionConflictException;
 import br.com.company.taskManagement.repository.ItemsRepository;
 import br.com.company.taskManagement.repository.ListsRepository;
+import br.com.company.taskManagement.search.TitleSearchIndex;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -40,6 +50,15 @@ class ItemsServiceTest {
     @Mock
     ListsRepository listsRepository;
 
+    @Mock
+    TitleSearchIndex titleSearchIndex;
+
+    @Mock
+    CacheManager cacheManager;
+
+    @Mock
+    PriorityCountService priorityCountService;
+
 
     private Items buildItemsMock() {
         return Items.builder()
@@ -99,11 +118,58 @@ class ItemsServiceTest {
         Pageable pageable = PageRequest.of(0, 10);
         Lists lists = buildListsMock();
 
-        when(listsRepository.findById(anyLong())).thenReturn(Optional.of(lists));
+        when(listsRepository.existsById(anyLong())).thenReturn(true);
+        when(repository.findByListsId(anyLong(), any(Pageable.class))).thenReturn(new PageImpl<>(lists.getItems(), pageable, lists.getItems().size()));
 
         Page<Items> pageItems = service.findAllByLists(1L, pageable);
 
         assertEquals(lists.getItems().get(0).getId(), pageItems.getContent().get(0).getId());
+        verify(listsRepository, never()).findById(anyLong());
+        verify(repository).findByListsId(1L, PageRequest.of(0, 10, Sort.by("id")));
+    }
+
+    @Test
+    void shouldReturnExceptionWhenFindAllByListsNotFound() {
+        Pageable pageable = PageRequest.of(0, 10);
+
+        when(listsRepository.existsById(anyLong())).thenReturn(false);
+
+        ExceptionMessage ex = assertThrows(ExceptionMessage.class, () -> service.findAllByLists(1L, pageable));
+
+        assertEquals("Lista não encontrada!", ex.getMessage());
+    }
+
+    @Test
+    void shouldReturnCursorPageItemsWhenFindAllWithCursor() throws ExceptionMessage {
+        Items items = buildItemsMock();
+        Window<Items> window = Window.from(List.of(items), index -> ScrollPosition.forward(Map.of("id", items.getId())), true);
+
+        when(repository.findBy(ArgumentMatchers.<Specification<Items>>any(), any())).thenReturn(window);
+
+        CursorPageDto<Items> page = service.findAll("", PageRequest.of(0, 10));
+
+        assertEquals(items.getId(), page.getContent().get(0).getId());
+        assertNotNull(page.getNext());
+    }
+
+    @Test
+    void shouldReturnCursorPageItemsWhenFindByFiltersWithCursor() throws ExceptionMessage {
+        Items items = buildItemsMock();
+        Window<Items> window = Window.from(List.of(items), index -> ScrollPosition.forward(Map.of("id", items.getId())), false);
+
+        when(repository.findBy(ArgumentMatchers.<Specification<Items>>any(), any())).thenReturn(window);
+
+        CursorPageDto<Items> page = service.findByFilters(Priority.NORMAL, null, null, "Title", "", PageRequest.of(0, 10));
+
+        assertEquals(items.getId(), page.getContent().get(0).getId());
+        assertNull(page.getNext());
+    }
+
+    @Test
+    void shouldReturnExceptionWhenFindAllWithInvalidCursor() {
+        ExceptionMessage ex = assertThrows(ExceptionMessage.class, () -> service.findAll("invalid cursor", PageRequest.of(0, 10)));
+
+        assertEquals("Cursor inválido!", ex.getMessage());
     }
 
     @Test
@@ -113,7 +179,7 @@ class ItemsServiceTest {
 
         Pageable pageable = PageRequest.of(0, 10);
 
-        when(repository.findByFilters(any(), any(), any(), any(), any(Pageable.class))).thenReturn(new PageImpl<>(itemsList, pageable, itemsList.size()));
+        when(repository.findAll(ArgumentMatchers.<Specification<Items>>any(), any(Pageable.class))).thenReturn(new PageImpl<>(itemsList, pageable, itemsList.size()));
 
         Page<Items> itemsReturned = service.findByFilters(Priority.NORMAL, LocalDateTime.now(), LocalDateTime.now(), "Title Test", pageable);
 
@@ -125,21 +191,25 @@ class ItemsServiceTest {
         Lists lists = buildListsMock();
         ItemsDto itemsDto = buildItemsDtoMock();
 
-        when(listsRepository.findById(anyLong())).thenReturn(Optional.of(lists));
+        when(listsRepository.existsById(anyLong())).thenReturn(true);
+        when(listsRepository.getReferenceById(anyLong())).thenReturn(lists);
+        when(repository.save(any(Items.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         Items itemsReturned = service.createItems(1L, itemsDto);
 
-        assertEquals(2, lists.getItems().size());
         assertEquals(itemsDto.getTitle(), itemsReturned.getTitle());
+        assertEquals(lists, itemsReturned.getLists());
+        assertEquals(1, lists.getItems().size());
+        verify(listsRepository, never()).findById(anyLong());
+        verify(listsRepository, never()).save(any(Lists.class));
     }
 
     @Test
     void shouldReturnExceptionWhenCreateItems() {
-        Lists lists = buildListsMock();
         ItemsDto itemsDto = buildItemsDtoMock();
         itemsDto.setTitle("Titl");
 
-        when(listsRepository.findById(anyLong())).thenReturn(Optional.of(lists));
+        when(listsRepository.existsById(anyLong())).thenReturn(true);
 
         ExceptionMessage ex = assertThrows(ExceptionMessage.class, () -> {
             service.createItems(1L, itemsDto);
@@ -148,6 +218,18 @@ class ItemsServiceTest {
         assertEquals("O título deve ser maior ou igual à 6 caracteres e até 20 caracteres", ex.getMessage());
     }
 
+    @Test
+    void shouldReturnExceptionWhenCreateItemsListNotFound() {
+        ItemsDto itemsDto = buildItemsDtoMock();
+
+        when(listsRepository.existsById(anyLong())).thenReturn(false);
+
+        ExceptionMessage ex = assertThrows(ExceptionMessage.class, () -> service.createItems(1L, itemsDto));
+
+        assertEquals("Lista não encontrada!", ex.getMessage());
+        verify(repository, never()).save(any(Items.class));
+    }
+
     @Test
     void shouldReturnItemsWhenPutItems() throws ExceptionMessage {
         ItemsDto itemsDto = buildItemsDtoMock();
@@ -156,11 +238,24 @@ class ItemsServiceTest {
         when(repository.findById(anyLong())).thenReturn(Optional.of(items));
         when(repository.save(any(Items.class))).thenReturn(items);
 
-        Items itemsReturned = service.putItems(1L, itemsDto);
+        Items itemsReturned = service.putItems(1L, itemsDto, null);
 
         assertEquals(itemsDto.getTitle(), itemsReturned.getTitle());
     }
 
+    @Test
+    void shouldThrowVersionConflictWhenPutItemsWithStaleVersion() {
+        Items items = buildItemsMock();
+        items.setVersion(4L);
+
+        when(repository.findById(anyLong())).thenReturn(Optional.of(items));
+
+        VersionConflictException ex = assertThrows(VersionConflictException.class, () -> service.putItems(1L, buildItemsDtoMock(), 3L));
+
+        assertEquals(4L, ex.getCurrentVersion());
+        verify(repository, never()).save(any(Items.class));
+    }
+
     @Test
     void shouldDeleteListsWhenDeleteById() {
         service.deleteById(1L);
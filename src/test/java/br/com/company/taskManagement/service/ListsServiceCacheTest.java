@@ -0,0 +1,140 @@
+package br.com.company.taskManagement.service;
+
+import br.com.company.taskManagement.config.CacheConfig;
+import br.com.company.taskManagement.config.StatementCountConfig;
+import br.com.company.taskManagement.dto.ItemsDto;
+import br.com.company.taskManagement.entity.Items;
+import br.com.company.taskManagement.entity.Lists;
+import br.com.company.taskManagement.enums.Priority;
+import br.com.company.taskManagement.exception.ExceptionMessage;
+import br.com.company.taskManagement.jdbc.StatementCounter;
+import br.com.company.taskManagement.repository.ListsRepository;
+import br.com.company.taskManagement.repository.ProjectionRepository;
+import br.com.company.taskManagement.search.TitleSearchIndex;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.cache.CacheType;
+import org.springframework.boot.test.autoconfigure.core.AutoConfigureCache;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static br.com.company.taskManagement.jdbc.StatementAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureCache(cacheProvider = CacheType.CAFFEINE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({StatementCountConfig.class, CacheConfig.class, ListsService.class, ItemsService.class, TitleSearchIndex.class, PriorityCountService.class, ProjectionRepository.class})
+class ListsServiceCacheTest {
+
+    @Autowired
+    ListsService listsService;
+
+    @Autowired
+    ItemsService itemsService;
+
+    @Autowired
+    ListsRepository listsRepository;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    Lists lists;
+
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.LISTS).clear();
+        cacheManager.getCache(CacheConfig.ITEMS).clear();
+        Lists newLists = Lists.builder()
+                .title("Title Test")
+                .creationDate(LocalDateTime.now())
+                .priority(Priority.NORMAL)
+                .items(new ArrayList<>())
+                .build();
+        newLists.getItems().add(Items.builder().title("Title Test").priority(Priority.NORMAL).lists(newLists).build());
+        lists = listsRepository.saveAndFlush(newLists);
+        entityManager.clear();
+        StatementCounter.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        listsRepository.deleteAll();
+    }
+
+
+    @Test
+    void shouldNotQueryDatabaseWhenFindByIdIsCached() throws ExceptionMessage {
+        listsService.findById(lists.getId());
+        long selects = StatementCounter.current().getSelect();
+
+        Lists cached = listsService.findById(lists.getId());
+
+        assertSelects(selects);
+        assertEquals(1, cached.getItems().size());
+    }
+
+    @Test
+    void shouldEvictListsWhenCreateItems() throws ExceptionMessage {
+        listsService.findById(lists.getId());
+
+        itemsService.createItems(lists.getId(), ItemsDto.builder().title("Title New").build());
+
+        assertNull(cacheManager.getCache(CacheConfig.LISTS).get(lists.getId()));
+    }
+
+    @Test
+    void shouldEvictItemsAndParentListsWhenPutItems() throws ExceptionMessage {
+        Long itemsId = lists.getItems().get(0).getId();
+        listsService.findById(lists.getId());
+        itemsService.findById(itemsId);
+
+        itemsService.putItems(itemsId, ItemsDto.builder().title("Title Changed").priority(Priority.URGENTE).build(), null);
+
+        assertNull(cacheManager.getCache(CacheConfig.ITEMS).get(itemsId));
+        assertNull(cacheManager.getCache(CacheConfig.LISTS).get(lists.getId()));
+    }
+
+    @Test
+    void shouldNotKeepStaleItemsWhenReadConcurrentlyBeforeCommit() throws Exception {
+        Long itemsId = lists.getItems().get(0).getId();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                try {
+                    itemsService.putItems(itemsId, ItemsDto.builder().title("Title Changed").priority(Priority.URGENTE).build(), null);
+                    entityManager.flush();
+                    assertEquals("Title Test", executor.submit(() -> itemsService.findById(itemsId).getTitle()).get());
+                } catch (Exception ex) {
+                    throw new IllegalStateException(ex);
+                }
+            });
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals("Title Changed", itemsService.findById(itemsId).getTitle());
+    }
+
+}
@@ -1,26 +1,36 @@
 package br.com.company.taskManagement.service;
 
+import br.com.company.taskManagement.dto.CursorPageDto;
 import br.com.company.taskManagement.dto.ItemsDto;
 import br.com.company.taskManagement.dto.ListsDto;
 import br.com.company.taskManagement.entity.Items;
 import br.com.company.taskManagement.entity.Lists;
 import br.com.company.taskManagement.enums.Priority;
 import br.com.company.taskManagement.exception.ExceptionMessage;
+import br.com.company.taskManagement.exception.VersionConflictException;
 import br.com.company.taskManagement.repository.ListsRepository;
+import br.com.company.taskManagement.search.TitleSearchIndex;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -37,6 +47,18 @@ class ListsServiceTest {
     @Mock
     ListsRepository repository;
 
+    @Mock
+    TitleSearchIndex titleSearchIndex;
+
+    @Mock
+    CacheManager cacheManager;
+
+    @Mock
+    PriorityCountService priorityCountService;
+
+    @Mock
+    EntityManager entityManager;
+
 
     private Lists buildListsMock() {
         return Lists.builder()
@@ -88,6 +110,39 @@ class ListsServiceTest {
         assertEquals(lists.getId(), listsReturned.get().toList().get(0).getId());
     }
 
+    @Test
+    void shouldReturnCursorPageListsWhenFindAllWithCursor() throws ExceptionMessage {
+        Lists lists = buildListsMock();
+        Window<Lists> window = Window.from(List.of(lists), index -> ScrollPosition.forward(Map.of("id", lists.getId())), true);
+
+        when(repository.findBy(ArgumentMatchers.<Specification<Lists>>any(), any())).thenReturn(window);
+
+        CursorPageDto<Lists> page = service.findAll("", PageRequest.of(0, 10));
+
+        assertEquals(lists.getId(), page.getContent().get(0).getId());
+        assertNotNull(page.getNext());
+    }
+
+    @Test
+    void shouldReturnCursorPageListsWhenFindByFiltersWithCursor() throws ExceptionMessage {
+        Lists lists = buildListsMock();
+        Window<Lists> window = Window.from(List.of(lists), index -> ScrollPosition.forward(Map.of("id", lists.getId())), false);
+
+        when(repository.findBy(ArgumentMatchers.<Specification<Lists>>any(), any())).thenReturn(window);
+
+        CursorPageDto<Lists> page = service.findByFilters(Priority.NORMAL, null, null, "Title", "", PageRequest.of(0, 10));
+
+        assertEquals(lists.getId(), page.getContent().get(0).getId());
+        assertNull(page.getNext());
+    }
+
+    @Test
+    void shouldReturnExceptionWhenFindAllWithInvalidCursor() {
+        ExceptionMessage ex = assertThrows(ExceptionMessage.class, () -> service.findAll("invalid cursor", PageRequest.of(0, 10)));
+
+        assertEquals("Cursor inválido!", ex.getMessage());
+    }
+
     @Test
     void shouldReturnPageListsWhenFindByFilters() {
         Lists lists = buildListsMock();
@@ -95,7 +150,7 @@ class ListsServiceTest {
 
         Pageable pageable = PageRequest.of(0, 10);
 
-        when(repository.findByFilters(any(), any(), any(), any(), any(Pageable.class))).thenReturn(new PageImpl<>(listsList, pageable, listsList.size()));
+        when(repository.findAll(ArgumentMatchers.<Specification<Lists>>any(), any(Pageable.class))).thenReturn(new PageImpl<>(listsList, pageable, listsList.size()));
 
         Page<Lists> listsReturned = service.findByFilters(Priority.NORMAL, LocalDateTime.now(), LocalDateTime.now(), "Title Test", pageable);
 
@@ -106,9 +161,12 @@ class ListsServiceTest {
     void shouldReturnListsWhenCreateLists() throws ExceptionMessage {
         ListsDto listsDto = buildListsDtoMock();
 
+        when(repository.save(any(Lists.class))).thenReturn(buildListsMock());
+
         service.createLists(listsDto);
 
         verify(repository, times(1)).save(any(Lists.class));
+        verify(priorityCountService, times(1)).create(anyLong(), anyList());
     }
 
     @Test
@@ -129,25 +187,62 @@ class ListsServiceTest {
         when(repository.findById(anyLong())).thenReturn(Optional.of(lists));
         when(repository.save(any(Lists.class))).thenReturn(lists);
 
-        Lists listsReturned = service.putLists(1L, listsDto);
+        Lists listsReturned = service.putLists(1L, listsDto, null);
 
         verify(repository, times(1)).save(any(Lists.class));
         assertEquals(lists.getId(), listsReturned.getId());
     }
 
     @Test
-    void shouldReturnExceptionWhenPutLists() {
-        ListsDto listsDto = buildListsDtoMock();
-        listsDto.setTitle("Titl");
+    void shouldMergeItemsByIdWhenPutLists() throws ExceptionMessage {
         Lists lists = buildListsMock();
+        Items removed = Items.builder().id(3L).title("Title Removed").build();
+        lists.getItems().add(removed);
+        Items kept = lists.getItems().get(0);
+
+        ListsDto listsDto = buildListsDtoMock();
+        listsDto.setItemsDto(new ArrayList<>(Arrays.asList(
+                ItemsDto.builder().id(2L).title("Title Changed").description("Some Description").build(),
+                ItemsDto.builder().title("Title New").build())));
 
         when(repository.findById(anyLong())).thenReturn(Optional.of(lists));
+        when(repository.save(any(Lists.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Lists listsReturned = service.putLists(1L, listsDto, null);
+
+        assertEquals(2, listsReturned.getItems().size());
+        assertSame(kept, listsReturned.getItems().get(0));
+        assertEquals("Title Changed", kept.getTitle());
+        assertFalse(listsReturned.getItems().contains(removed));
+        assertNull(listsReturned.getItems().get(1).getId());
+        assertEquals(lists, listsReturned.getItems().get(1).getLists());
+    }
+
+    @Test
+    void shouldReturnExceptionWhenPutLists() {
+        ListsDto listsDto = buildListsDtoMock();
+        listsDto.setTitle("Titl");
 
         ExceptionMessage ex = assertThrows(ExceptionMessage.class, () -> {
-            service.putLists(1L, listsDto);
+            service.putLists(1L, listsDto, null);
         });
 
         assertEquals("O título deve ser maior ou igual à 6 caracteres e até 20 caracteres", ex.getMessage());
+        verify(repository, never()).findById(anyLong());
+    }
+
+    @Test
+    void shouldThrowVersionConflictWhenPutListsWithStaleVersion() {
+        Lists lists = buildListsMock();
+        lists.setVersion(2L);
+
+        when(repository.findById(anyLong())).thenReturn(Optional.of(lists));
+
+        VersionConflictException ex = assertThrows(VersionConflictException.class, () -> service.putLists(1L, buildListsDtoMock(), 1L));
+
+        assertEquals(2L, ex.getCurrentVersion());
+        verify(repository, never()).save(any(Lists.class));
+        verify(entityManager, never()).lock(any(), any());
     }
 
     @Test
@@ -158,13 +253,15 @@ class ListsServiceTest {
     }
 
     @Test
-    void shouldDeleteListsWhenDelete() throws ExceptionMessage {
+    void shouldDeleteLoadedListsWhenDelete() throws ExceptionMessage {
         Lists lists = buildListsMock();
+        Lists body = Lists.builder().id(1L).title("Title Test").build();
 
         when(repository.findById(anyLong())).thenReturn(Optional.of(lists));
-        service.delete(1L, lists);
+        service.delete(1L, body);
 
-        verify(repository, times(1)).delete(any(Lists.class));
+        verify(repository, times(1)).delete(same(lists));
+        verify(repository, never()).delete(same(body));
     }
 
     @Test
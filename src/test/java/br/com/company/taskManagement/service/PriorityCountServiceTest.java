@@ -0,0 +1,169 @@
+package br.com.company.taskManagement.service;
+
+import br.com.company.taskManagement.config.CacheConfig;
+import br.com.company.taskManagement.dto.ItemsDto;
+import br.com.company.taskManagement.dto.ListsDto;
+import br.com.company.taskManagement.entity.Items;
+import br.com.company.taskManagement.entity.Lists;
+import br.com.company.taskManagement.enums.Priority;
+import br.com.company.taskManagement.exception.ExceptionMessage;
+import br.com.company.taskManagement.repository.PriorityCountRepository;
+import br.com.company.taskManagement.repository.ProjectionRepository;
+import br.com.company.taskManagement.search.TitleSearchIndex;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({CacheConfig.class, ListsService.class, ItemsService.class, TitleSearchIndex.class, PriorityCountService.class, ProjectionRepository.class})
+class PriorityCountServiceTest {
+
+    @Autowired
+    PriorityCountService priorityCountService;
+
+    @Autowired
+    ListsService listsService;
+
+    @Autowired
+    ItemsService itemsService;
+
+    @Autowired
+    PriorityCountRepository priorityCountRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+
+    private Lists buildListsMock() throws ExceptionMessage {
+        List<ItemsDto> itemsDto = new ArrayList<>();
+        itemsDto.add(ItemsDto.builder().title("Title Test").priority(Priority.URGENTE).build());
+        itemsDto.add(ItemsDto.builder().title("Title Test").priority(Priority.NORMAL).build());
+        itemsDto.add(ItemsDto.builder().title("Title Test").priority(Priority.NORMAL).build());
+        return listsService.createLists(ListsDto.builder().title("Title Test").itemsDto(itemsDto).build());
+    }
+
+    private Map<Priority, Long> counts(Long id) throws ExceptionMessage {
+        entityManager.flush();
+        entityManager.clear();
+        return priorityCountService.findByListId(id);
+    }
+
+
+    @Test
+    void shouldCountItemsByPriorityWhenCreateLists() throws ExceptionMessage {
+        Lists lists = buildListsMock();
+
+        Map<Priority, Long> counts = counts(lists.getId());
+
+        assertEquals(1L, counts.get(Priority.URGENTE));
+        assertEquals(2L, counts.get(Priority.NORMAL));
+        assertEquals(0L, counts.get(Priority.ANDAMENTO));
+        assertEquals(0L, counts.get(Priority.CONCLUIDO));
+    }
+
+    @Test
+    void shouldUpdateCountsWhenItemsChange() throws ExceptionMessage {
+        Lists lists = buildListsMock();
+
+        Items created = itemsService.createItems(lists.getId(), ItemsDto.builder().title("Title Test").priority(Priority.ANDAMENTO).build());
+        itemsService.putItems(created.getId(), ItemsDto.builder().title("Title Test").priority(Priority.CONCLUIDO).build(), null);
+        itemsService.deleteById(lists.getItems().get(0).getId());
+
+        Map<Priority, Long> counts = counts(lists.getId());
+
+        assertEquals(0L, counts.get(Priority.URGENTE));
+        assertEquals(2L, counts.get(Priority.NORMAL));
+        assertEquals(0L, counts.get(Priority.ANDAMENTO));
+        assertEquals(1L, counts.get(Priority.CONCLUIDO));
+    }
+
+    @Test
+    void shouldApplyMergeDifferenceWhenPutLists() throws ExceptionMessage {
+        Lists lists = buildListsMock();
+        List<ItemsDto> itemsDto = new ArrayList<>();
+        itemsDto.add(ItemsDto.builder().id(lists.getItems().get(1).getId()).title("Title Test").priority(Priority.CONCLUIDO).build());
+        itemsDto.add(ItemsDto.builder().title("Title Test").priority(Priority.URGENTE).build());
+
+        listsService.putLists(lists.getId(), ListsDto.builder().title("Title Test").priority(Priority.NORMAL).itemsDto(itemsDto).build(), null);
+
+        Map<Priority, Long> counts = counts(lists.getId());
+
+        assertEquals(1L, counts.get(Priority.URGENTE));
+        assertEquals(0L, counts.get(Priority.NORMAL));
+        assertEquals(1L, counts.get(Priority.CONCLUIDO));
+    }
+
+    @Test
+    void shouldRemoveCountsWhenDeleteLists() throws ExceptionMessage {
+        Lists lists = buildListsMock();
+
+        listsService.deleteById(lists.getId());
+        entityManager.flush();
+
+        assertTrue(priorityCountRepository.findByListId(lists.getId()).isEmpty());
+        assertThrows(ExceptionMessage.class, () -> priorityCountService.findByListId(lists.getId()));
+    }
+
+    @Test
+    void shouldRepairDriftWhenReconcile() throws ExceptionMessage {
+        Lists lists = buildListsMock();
+        Lists other = buildListsMock();
+        priorityCountService.add(lists.getId(), Priority.NORMAL, 5);
+        priorityCountRepository.deleteByListId(other.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(2, priorityCountService.reconcile());
+        assertEquals(0, priorityCountService.reconcile());
+
+        assertEquals(2L, counts(lists.getId()).get(Priority.NORMAL));
+        assertEquals(1L, counts(other.getId()).get(Priority.URGENTE));
+    }
+
+    @Test
+    void shouldNotInsertCountWhenAddToListsWithoutCounts() throws ExceptionMessage {
+        Lists lists = buildListsMock();
+        priorityCountRepository.deleteByListId(lists.getId());
+
+        priorityCountService.add(lists.getId(), Priority.NORMAL, 1);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertTrue(priorityCountRepository.findByListId(lists.getId()).isEmpty());
+        assertEquals(1, priorityCountService.reconcile());
+        assertEquals(1L, counts(lists.getId()).get(Priority.URGENTE));
+    }
+
+    @Test
+    void shouldCountLiveWhenListsHasNoCounts() throws ExceptionMessage {
+        Lists lists = buildListsMock();
+        priorityCountRepository.deleteByListId(lists.getId());
+
+        Map<Priority, Long> counts = counts(lists.getId());
+
+        assertEquals(1L, counts.get(Priority.URGENTE));
+        assertEquals(2L, counts.get(Priority.NORMAL));
+        assertTrue(priorityCountRepository.findByListId(lists.getId()).isEmpty());
+    }
+
+    @Test
+    void shouldCreateMissingCountsWhenBackfill() throws ExceptionMessage {
+        Lists lists = buildListsMock();
+        priorityCountRepository.deleteByListId(lists.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        priorityCountService.backfill();
+
+        assertEquals(4, priorityCountRepository.findByListId(lists.getId()).size());
+        assertEquals(2L, counts(lists.getId()).get(Priority.NORMAL));
+    }
+}